@@ -0,0 +1,191 @@
+package io.github.andreaspapadakis.banking.backoffice;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to first request: from launching the packaged application in a new JVM until
+ * {@code GET /api/accounts} has answered 200, which needs the web server, the context and the
+ * database up. Every invocation is a cold start against the same file database, whose schema a
+ * trial run creates first.
+ *
+ * <ul>
+ *   <li>{@code jar}: the repackaged jar with the default configuration.</li>
+ *   <li>{@code lazy}: the same jar with the {@code startup} profile.</li>
+ *   <li>{@code aot-cds}: the extracted jar with the AOT-processed context and the CDS archive.
+ *   </li>
+ * </ul>
+ *
+ * <p>Needs the jar and, for {@code aot-cds}, target/startup from
+ * {@code mvn -Pstartup,jmh verify}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BackofficeApplicationStartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+  @Param({"jar", "lazy", "aot-cds"})
+  private String packaging;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private String databaseUrl;
+  private Process application;
+  private URI firstRequest;
+
+  @Setup(Level.Trial)
+  public void createSchema() throws Exception {
+    databaseUrl = "jdbc:h2:file:" + Path.of("target", "jmh-startup", UUID.randomUUID().toString())
+        .toAbsolutePath() + ";MODE=MySQL";
+
+    // the default configuration creates the schema the startup profile expects
+    launch(command("jar", "update"));
+    awaitFirstResponse();
+    stop();
+  }
+
+  @Benchmark
+  public int timeToFirstRequest() throws Exception {
+    launch(command(packaging, packaging.equals("jar") ? "update" : "none"));
+
+    return awaitFirstResponse();
+  }
+
+  @TearDown(Level.Invocation)
+  public void stop() throws InterruptedException {
+    if (application != null) {
+      application.destroy();
+      application.waitFor();
+    }
+  }
+
+  private List<String> command(String packaging, String ddlAuto) {
+    List<String> command = new ArrayList<>(List.of(
+        Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+
+    switch (packaging) {
+      case "jar" -> command.addAll(List.of("-jar", jar().toString()));
+      case "lazy" -> command.addAll(List.of("-Dspring.profiles.active=startup",
+          "-jar", jar().toString()));
+      case "aot-cds" -> {
+        Path startupDirectory = existing(System.getProperty("benchmark.startup-directory"));
+        command.addAll(List.of(
+            "-XX:SharedArchiveFile=" + existing(startupDirectory.resolve("application.jsa")),
+            "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=startup",
+            "-jar", existing(startupDirectory.resolve(jar().getFileName())).toString()));
+      }
+      default -> throw new IllegalArgumentException("Unknown packaging " + packaging);
+    }
+
+    command.addAll(List.of(
+        "--server.port=" + freePort(),
+        "--spring.datasource.url=" + databaseUrl,
+        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+        "--spring.jpa.show-sql=false",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=warn",
+        "--app.random-number-generator.api-key=benchmark",
+        "--app.random-number-generator.api-url=http://localhost:9",
+        "--app.random-number-generator.refill-interval=1h"));
+
+    return command;
+  }
+
+  private void launch(List<String> command) throws IOException {
+    String port = command.stream()
+        .filter(argument -> argument.startsWith("--server.port="))
+        .findFirst()
+        .orElseThrow()
+        .substring("--server.port=".length());
+
+    firstRequest = URI.create("http://localhost:" + port + "/api/accounts?size=1");
+    application = new ProcessBuilder(command)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+  }
+
+  private int awaitFirstResponse() throws InterruptedException, IOException {
+    HttpRequest request = HttpRequest.newBuilder(firstRequest).GET().build();
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      if (!application.isAlive()) {
+        throw new IllegalStateException("Application exited with " + application.exitValue());
+      }
+
+      try {
+        HttpResponse<Void> response = httpClient.send(request,
+            HttpResponse.BodyHandlers.discarding());
+
+        if (response.statusCode() == 200) {
+          return response.statusCode();
+        }
+      } catch (ConnectException e) {
+        // not listening yet
+      }
+
+      Thread.sleep(5);
+    }
+
+    throw new IllegalStateException("No response within " + STARTUP_TIMEOUT);
+  }
+
+  private static Path jar() {
+    return existing(System.getProperty("benchmark.jar"));
+  }
+
+  private static Path existing(String path) {
+    if (path == null) {
+      throw new IllegalStateException("Run through mvn -Pjmh, which passes the artifact paths");
+    }
+
+    return existing(Path.of(path));
+  }
+
+  private static Path existing(Path path) {
+    if (!Files.exists(path)) {
+      throw new IllegalStateException(path + " is missing, package with mvn -Pstartup first");
+    }
+
+    return path;
+  }
+
+  private static int freePort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountResponseDtoSerializationBenchmark {
+
+  @Param({"1", "50", "500"})
+  private int size;
+
+  private ObjectWriter writer;
+  private List<AccountResponseDto> accounts;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, AccountResponseDto.class));
+    accounts = IntStream.range(0, size)
+        .mapToObj(i -> new AccountResponseDto(UUID.randomUUID(), i * 1050L, "EUR", new Date()))
+        .toList();
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return writer.writeValueAsBytes(accounts);
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCursor;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorMessages;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Cost of answering a missing account and a malformed cursor, from the throw to the response
+ * entity. Run with {@code -prof gc} to compare the allocation per rejected request against the
+ * former stack-filling {@link NoSuchElementException}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomExceptionHandlerBenchmark {
+
+  private final CustomExceptionHandler handler;
+
+  public CustomExceptionHandlerBenchmark() {
+    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    messageSource.setBasename("ValidationMessages");
+    messageSource.setAlwaysUseMessageFormat(true);
+    handler = new CustomExceptionHandler(new ErrorMessages(messageSource));
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> accountNotFound() {
+    try {
+      return ResponseEntity.ok(Optional.empty().orElseThrow(AccountNotFoundException::new));
+    } catch (AccountNotFoundException e) {
+      return handler.handleDomainException(e);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> accountNotFoundWithStackTrace() {
+    try {
+      return ResponseEntity.ok(Optional.empty().orElseThrow(
+          () -> new NoSuchElementException("There is no account with provided ID")));
+    } catch (NoSuchElementException e) {
+      return handler.handleNoSuchElementException(e);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> invalidCursor() {
+    try {
+      return ResponseEntity.ok(AccountCursor.decode("bm90LWEtY3Vyc29y"));
+    } catch (InvalidCursorException e) {
+      return handler.handleDomainException(e);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.id;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the former {@code CHAR(36)} random UUID primary key with the {@code BINARY(16)}
+ * time-ordered one on a pre-filled table of 1M, 10M and 50M rows. The table lives in a file
+ * database under the temp directory, so that the larger sizes do not have to fit in the heap and
+ * page fragmentation shows as it would on disk; a single size is run with {@code -p rows=...}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AccountIdLayoutBenchmark {
+
+  private static final int FILL_BATCH_SIZE = 10_000;
+
+  @Param({"char36-random", "binary16-uuidv7"})
+  private String layout;
+
+  @Param({"1000000", "10000000", "50000000"})
+  private int rows;
+
+  private final AccountIdGenerator timeOrdered = new TimeOrderedAccountIdGenerator();
+  private final AccountIdGenerator random = new RandomAccountIdGenerator();
+
+  private Path directory;
+  private Connection connection;
+  private PreparedStatement insert;
+  private PreparedStatement lookup;
+  private Object[] existingIds;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException, IOException {
+    directory = Files.createTempDirectory("account-id-layout");
+    connection = DriverManager.getConnection(
+        "jdbc:h2:file:" + directory.resolve("accounts") + ";MODE=MySQL");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(binaryLayout()
+          ? "create table ACCOUNTS (id binary(16) primary key, balance bigint, currency char(3))"
+          : "create table ACCOUNTS (id char(36) primary key, balance bigint, currency char(3))");
+    }
+    insert = connection.prepareStatement(
+        "insert into ACCOUNTS (id, balance, currency) values (?, 0, 'EUR')");
+    lookup = connection.prepareStatement("select balance from ACCOUNTS where id = ?");
+
+    // lookups sample ids spread evenly over the insertion order
+    existingIds = new Object[Math.min(rows, 100_000)];
+    int stride = rows / existingIds.length;
+    for (int i = 0; i < rows; i++) {
+      Object id = nextId();
+      if (i % stride == 0 && i / stride < existingIds.length) {
+        existingIds[i / stride] = id;
+      }
+      insert.setObject(1, id);
+      insert.addBatch();
+      if ((i + 1) % FILL_BATCH_SIZE == 0) {
+        insert.executeBatch();
+      }
+    }
+    insert.executeBatch();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException, IOException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("shutdown");
+    }
+    connection.close();
+
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Benchmark
+  public int insert() throws SQLException {
+    insert.setObject(1, nextId());
+    return insert.executeUpdate();
+  }
+
+  @Benchmark
+  public long lookup() throws SQLException {
+    lookup.setObject(1, existingIds[ThreadLocalRandom.current().nextInt(existingIds.length)]);
+    try (ResultSet resultSet = lookup.executeQuery()) {
+      return resultSet.next() ? resultSet.getLong(1) : -1L;
+    }
+  }
+
+  private boolean binaryLayout() {
+    return layout.startsWith("binary16");
+  }
+
+  private Object nextId() {
+    return binaryLayout()
+        ? UuidUtils.toBytes(timeOrdered.nextId())
+        : random.nextId().toString();
+  }
+}
@@ -0,0 +1,39 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.mapper;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountMapperBenchmark {
+
+  private final AccountMapper accountMapper = new AccountMapperImpl();
+  private Account account;
+
+  @Setup
+  public void setUp() {
+    account = new Account(UUID.randomUUID(), 123456L, "EUR", new Date());
+  }
+
+  @Benchmark
+  public AccountResponseDto mapAllData() {
+    return accountMapper.mapAllData(account);
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.benchmark.BenchmarkApplication;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * CRUD paths of {@link AccountServiceImpl} against an embedded H2 store.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountServiceBenchmark {
+
+  @Param({"10000"})
+  private int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountService accountService;
+  private List<UUID> ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start();
+    accountService = context.getBean(AccountService.class);
+    ids = accountService.saveAll(IntStream.range(0, accounts)
+            .mapToObj(i -> new AccountCreateRequest("EUR"))
+            .toList())
+        .stream()
+        .map(result -> result.account().id())
+        .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public AccountResponseDto save() {
+    return accountService.save(new AccountCreateRequest("EUR"));
+  }
+
+  @Benchmark
+  public AccountResponseDto getAccountById() {
+    return accountService.getAccountById(randomId());
+  }
+
+  @Benchmark
+  public AccountResponseDto update() {
+    return accountService.update(randomId(), new AccountUpdateRequest(
+        BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1000)), null));
+  }
+
+  @Benchmark
+  public AccountResponseDto credit() {
+    return accountService.credit(randomId(), new BalanceChangeRequest(BigDecimal.ONE));
+  }
+
+  private UUID randomId() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.benchmark.BenchmarkApplication;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Every thread writes to the same account, as treasury and fee collection writers do. With
+ * {@code ledger=true} the account is owned by the in-memory balance ledger, otherwise writes go
+ * through JPA and row locks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ContendedBalanceBenchmark {
+
+  private static final UUID HOT_ACCOUNT = UUID.fromString("00000000-0000-7000-8000-000000000001");
+
+  @Param({"false", "true"})
+  private boolean ledger;
+
+  private ConfigurableApplicationContext context;
+  private AccountService accountService;
+  private UUID hotAccountId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start(
+        "app.ledger.enabled=" + ledger,
+        "app.ledger.hot-accounts=" + HOT_ACCOUNT,
+        "app.accounts.balance-update-max-attempts=50");
+    accountService = context.getBean(AccountService.class);
+
+    // the ledger is keyed by configuration, so the hot account is moved onto the known id
+    UUID createdId = accountService.save(new AccountCreateRequest("EUR")).id();
+    context.getBean(JdbcTemplate.class).update("update ACCOUNTS set id = ? where id = ?",
+        UuidUtils.toBytes(HOT_ACCOUNT), UuidUtils.toBytes(createdId));
+    hotAccountId = HOT_ACCOUNT;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public AccountResponseDto credit() {
+    return accountService.credit(hotAccountId, new BalanceChangeRequest(BigDecimal.ONE));
+  }
+
+  @Benchmark
+  public AccountResponseDto setBalance() {
+    return accountService.update(hotAccountId,
+        new AccountUpdateRequest(BigDecimal.valueOf(100), null));
+  }
+}
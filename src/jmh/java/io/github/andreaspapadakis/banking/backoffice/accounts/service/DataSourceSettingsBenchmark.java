@@ -0,0 +1,122 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.benchmark.BenchmarkApplication;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * {@link AccountServiceImpl} throughput with each setting of the {@code perf} profile applied
+ * on its own over the defaults, and with the whole profile. Runs against a file database under
+ * target, since the H2 page cache and write delay only matter once pages reach a file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class DataSourceSettingsBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private static final Map<String, List<String>> SETTINGS = Map.of(
+      "defaults", List.of(),
+      "pool", List.of(
+          "spring.datasource.hikari.maximum-pool-size=20",
+          "spring.datasource.hikari.minimum-idle=20",
+          "app.concurrency.database-permits=10"),
+      "statement-cache", List.of("app.datasource.h2-settings=;QUERY_CACHE_SIZE=64"),
+      "page-cache", List.of("app.datasource.h2-settings=;CACHE_SIZE=131072"),
+      "write-delay", List.of("app.datasource.h2-settings=;WRITE_DELAY=2000"),
+      "order-updates", List.of("spring.jpa.properties.hibernate.order_updates=true"),
+      "perf", List.of("spring.profiles.active=perf"));
+
+  @Param({"defaults", "pool", "statement-cache", "page-cache", "write-delay", "order-updates",
+      "perf"})
+  private String settings;
+
+  @Param({"10000"})
+  private int accounts;
+
+  private ConfigurableApplicationContext context;
+  private AccountService accountService;
+  private List<UUID> ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<String> properties = new ArrayList<>(List.of("spring.datasource.url=jdbc:h2:file:./target/"
+        + "jmh-h2/" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL"
+        + "${app.datasource.h2-settings:}"));
+    properties.addAll(SETTINGS.get(settings));
+
+    context = BenchmarkApplication.start(properties.toArray(String[]::new));
+    accountService = context.getBean(AccountService.class);
+    ids = accountService.saveAll(IntStream.range(0, accounts)
+            .mapToObj(i -> new AccountCreateRequest("EUR"))
+            .toList())
+        .stream()
+        .map(result -> result.account().id())
+        .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public AccountResponseDto save() {
+    return accountService.save(new AccountCreateRequest("EUR"));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<AccountBatchItemResult> saveAll() {
+    return accountService.saveAll(IntStream.range(0, BATCH_SIZE)
+        .mapToObj(i -> new AccountCreateRequest("EUR"))
+        .toList());
+  }
+
+  @Benchmark
+  public AccountResponseDto update() {
+    return accountService.update(randomId(), new AccountUpdateRequest(
+        BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1000)), null));
+  }
+
+  @Benchmark
+  public AccountResponseDto credit() {
+    return accountService.credit(randomId(), new BalanceChangeRequest(BigDecimal.ONE));
+  }
+
+  private UUID randomId() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.benchmark.BenchmarkApplication;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Service throughput under the default logging, synchronous console output of every formatted
+ * statement with caller location, against the {@code prod} profile's asynchronous loggers and
+ * slow-query-only SQL logging. Standard output is discarded so both pay for formatting and
+ * writing but not for the terminal. The {@code prod} run also sets the Log4j system properties
+ * of the {@code prod} Maven profile; every run forks its own JVM, so they are in place before
+ * Log4j starts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SqlLoggingBenchmark {
+
+  // the same settings as log4j2.prod-settings in pom.xml
+  private static final Map<String, String> PROD_LOG4J_SETTINGS = Map.of(
+      "log4j2.enableThreadlocals", "true",
+      "log4j2.enableDirectEncoders", "true",
+      "log4j2.garbagefreeThreadContextMap", "true",
+      "log4j2.asyncQueueFullPolicy", "Discard",
+      "log4j2.discardThreshold", "INFO");
+
+  @Param({"default", "prod"})
+  private String logging;
+
+  private PrintStream stdout;
+  private ConfigurableApplicationContext context;
+  private AccountService accountService;
+  private List<UUID> ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    stdout = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+    if (logging.equals("prod")) {
+      PROD_LOG4J_SETTINGS.forEach(System::setProperty);
+    }
+
+    context = logging.equals("prod")
+        ? BenchmarkApplication.start("spring.profiles.active=prod", "logging.level.root=info")
+        : BenchmarkApplication.start("spring.jpa.show-sql=true", "logging.level.root=info");
+    accountService = context.getBean(AccountService.class);
+    ids = IntStream.range(0, 1000)
+        .mapToObj(i -> accountService.save(new AccountCreateRequest("EUR")).id())
+        .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+    System.setOut(stdout);
+  }
+
+  @Benchmark
+  public AccountResponseDto save() {
+    return accountService.save(new AccountCreateRequest("EUR"));
+  }
+
+  @Benchmark
+  public AccountResponseDto credit() {
+    return accountService.credit(randomId(), new BalanceChangeRequest(BigDecimal.ONE));
+  }
+
+  private UUID randomId() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.andreaspapadakis.banking.backoffice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH json result against a baseline result and exits non-zero when any benchmark
+ * present in both got worse by more than the given percentage.
+ *
+ * <p>Arguments: {@code <current.json> <baseline.json> <threshold-percent>}.
+ */
+public final class BaselineComparator {
+
+  private BaselineComparator() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3 || args[1].isBlank()) {
+      System.out.println("No jmh.baseline given, skipping regression check");
+      return;
+    }
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<String, JsonNode> current = index(objectMapper.readTree(Path.of(args[0]).toFile()));
+    Map<String, JsonNode> baseline = index(objectMapper.readTree(Path.of(args[1]).toFile()));
+    double threshold = Double.parseDouble(args[2]);
+    List<String> regressions = new ArrayList<>();
+
+    current.forEach((key, result) -> {
+      JsonNode previous = baseline.get(key);
+
+      if (previous == null) {
+        return;
+      }
+
+      double now = result.path("primaryMetric").path("score").asDouble();
+      double before = previous.path("primaryMetric").path("score").asDouble();
+      String unit = result.path("primaryMetric").path("scoreUnit").asText();
+
+      // a zero or missing baseline score gives no ratio to compare against
+      if (!(before > 0) || !Double.isFinite(now)) {
+        System.out.printf("%-100s %12.3f -> %12.3f %s (no usable baseline)%n", key, before, now,
+            unit);
+        return;
+      }
+
+      // throughput is better when higher, every other JMH mode measures time
+      boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+      double change = (now - before) / before * 100;
+      double regression = higherIsBetter ? -change : change;
+
+      System.out.printf("%-100s %12.3f -> %12.3f %s (%+.1f%%)%n", key, before, now, unit,
+          change);
+
+      if (regression > threshold) {
+        regressions.add(key);
+      }
+    });
+
+    if (!regressions.isEmpty()) {
+      System.out.println("Regressed by more than " + threshold + "%: " + regressions);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, JsonNode> index(JsonNode results) {
+    Map<String, JsonNode> byKey = new HashMap<>();
+
+    results.forEach(result -> byKey.put(result.path("benchmark").asText()
+        + result.path("params").toString(), result));
+
+    return byKey;
+  }
+}
@@ -0,0 +1,48 @@
+package io.github.andreaspapadakis.banking.backoffice.benchmark;
+
+import io.github.andreaspapadakis.banking.backoffice.BackofficeApplication;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the real application context without a web server, against a private in-memory H2
+ * database and with the random.org prefetcher kept idle. Properties are passed as command line
+ * arguments, so they override application.properties and any profile, and an extra property
+ * replaces a default of the same name.
+ */
+public final class BenchmarkApplication {
+
+  private BenchmarkApplication() {}
+
+  public static ConfigurableApplicationContext start(String... extraProperties) {
+    Map<String, String> properties = new LinkedHashMap<>();
+    List.of(
+        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.main.banner-mode=off",
+        "logging.level.root=warn",
+        "app.random-number-generator.api-key=benchmark",
+        "app.random-number-generator.api-url=http://localhost:9",
+        "app.random-number-generator.refill-interval=1h",
+        "app.ledger.journal-directory=target/jmh-ledger/" + UUID.randomUUID())
+        .forEach(property -> put(properties, property));
+    List.of(extraProperties).forEach(property -> put(properties, property));
+
+    return new SpringApplicationBuilder(BackofficeApplication.class)
+        .web(WebApplicationType.NONE)
+        .run(properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new));
+  }
+
+  private static void put(Map<String, String> properties, String property) {
+    int separator = property.indexOf('=');
+    properties.put(property.substring(0, separator), property.substring(separator + 1));
+  }
+}
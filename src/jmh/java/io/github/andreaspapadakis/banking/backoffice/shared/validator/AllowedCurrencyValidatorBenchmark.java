@@ -0,0 +1,119 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.validator;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.CurrencyProperty;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AllowedCurrencyValidatorBenchmark {
+
+  private static final int FLOOD_SIZE = 1024;
+  private static final String[] SUPPORTED = {"EUR", "USD", "GBP", "JPY", "CHF", "SEK"};
+  private static final String[] UNSUPPORTED = {"XYZ", "eur", "EURO", "E1R", "", "€€€", "QQQ"};
+
+  private final AllowedCurrencyValidator validator =
+      new AllowedCurrencyValidator(new CurrencyAllowlist(new CurrencyProperty(Set.of())));
+
+  @Benchmark
+  public boolean isValid(Code code) {
+    return validator.isValid(code.currency, null);
+  }
+
+  /**
+   * Full bean validation of a flood of create requests, including building the violations.
+   */
+  @Benchmark
+  @OperationsPerInvocation(FLOOD_SIZE)
+  public void validateFlood(Flood flood, Blackhole blackhole) {
+    for (AccountCreateRequest request : flood.requests) {
+      blackhole.consume(flood.beanValidator.validate(request));
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Code {
+
+    // a supported code, an unknown but well-formed code and a malformed payload
+    @Param({"EUR", "XYZ", "eur!"})
+    private String currency;
+  }
+
+  @State(Scope.Benchmark)
+  public static class Flood {
+
+    @Param({"valid", "invalid"})
+    private String payloads;
+
+    private final AllowedCurrencyValidator validator =
+        new AllowedCurrencyValidator(new CurrencyAllowlist(new CurrencyProperty(Set.of())));
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private AccountCreateRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      validatorFactory = Validation.byDefaultProvider()
+          .configure()
+          .constraintValidatorFactory(new AllowlistConstraintValidatorFactory())
+          .buildValidatorFactory();
+      beanValidator = validatorFactory.getValidator();
+
+      String[] codes = payloads.equals("valid") ? SUPPORTED : UNSUPPORTED;
+      Random random = new Random(42);
+      requests = new AccountCreateRequest[FLOOD_SIZE];
+      for (int i = 0; i < FLOOD_SIZE; i++) {
+        requests[i] = new AccountCreateRequest(codes[random.nextInt(codes.length)]);
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      validatorFactory.close();
+    }
+
+    private final class AllowlistConstraintValidatorFactory
+        implements ConstraintValidatorFactory {
+
+      private final ConstraintValidatorFactory defaultFactory =
+          Validation.byDefaultProvider().configure().getDefaultConstraintValidatorFactory();
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        return key == AllowedCurrencyValidator.class
+            ? (T) validator
+            : defaultFactory.getInstance(key);
+      }
+
+      @Override
+      public void releaseInstance(ConstraintValidator<?, ?> instance) {}
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountService;
+import io.github.andreaspapadakis.banking.backoffice.benchmark.BenchmarkApplication;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferResponseDto;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Transfers per second between random pairs of a small set of accounts, so most transfers
+ * contend for the row locks of another one. Both directions occur between every pair, which
+ * would deadlock without the ordered locking.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TransferServiceBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"2", "8", "64"})
+  private int accounts;
+
+  private ConfigurableApplicationContext context;
+  private TransferService transferService;
+  private List<UUID> accountIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkApplication.start("app.accounts.balance-update-max-attempts=50");
+    transferService = context.getBean(TransferService.class);
+
+    AccountService accountService = context.getBean(AccountService.class);
+    accountIds = IntStream.range(0, accounts)
+        .mapToObj(i -> accountService.save(new AccountCreateRequest("EUR")).id())
+        .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TransferResponseDto transfer() {
+    return transferService.transfer(randomTransfer());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<TransferBatchItemResult> transferBatch() {
+    return transferService.transferAll(IntStream.range(0, BATCH_SIZE)
+        .mapToObj(i -> randomTransfer())
+        .toList());
+  }
+
+  private TransferRequest randomTransfer() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int from = random.nextInt(accounts);
+    // any other account, drawn uniformly
+    int to = (from + 1 + random.nextInt(accounts - 1)) % accounts;
+
+    return new TransferRequest(accountIds.get(from), accountIds.get(to), BigDecimal.ONE, false);
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every account to a stream straight from a forward-only JDBC cursor. Rows are encoded
+ * as they arrive and never collected, so memory stays constant whatever the table size.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountExporter {
+
+  private static final String SELECT_ALL_SQL =
+      "select id, balance, currency, created_at from ACCOUNTS";
+  private static final String CSV_HEADER = "id,balance,currency,createdAt\n";
+  private static final int FETCH_SIZE = 1000;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final BalanceLedger balanceLedger;
+
+  public void export(OutputStream outputStream, AccountFileFormat format, boolean gzip)
+      throws IOException {
+    // hot account balances may still sit in the ledger
+    balanceLedger.flush();
+
+    try (OutputStream target = gzip
+        ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+        : new BufferedOutputStream(outputStream, BUFFER_SIZE)) {
+      if (format == AccountFileFormat.CSV) {
+        exportCsv(target);
+      } else {
+        exportNdjson(target);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void exportCsv(OutputStream outputStream) throws IOException {
+    Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+    StringBuilder line = new StringBuilder(96);
+    char[] balance = new char[MoneyUtils.MAX_DECIMAL_LENGTH];
+
+    writer.write(CSV_HEADER);
+    streamRows(resultSet -> {
+      Timestamp createdAt = resultSet.getTimestamp(4);
+      String currency = resultSet.getString(3);
+      int balanceOffset = MoneyUtils.toChars(resultSet.getLong(2),
+          currency == null ? 0 : MoneyUtils.scale(currency), balance);
+
+      line.setLength(0);
+      line.append(UuidUtils.fromBytes(resultSet.getBytes(1))).append(',')
+          .append(balance, balanceOffset, balance.length - balanceOffset).append(',')
+          .append(currency == null ? "" : currency).append(',')
+          .append(createdAt == null ? "" : createdAt.toInstant().toString()).append('\n');
+      try {
+        writer.append(line);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    writer.flush();
+  }
+
+  private void exportNdjson(OutputStream outputStream) throws IOException {
+    ObjectWriter writer = objectMapper.writerFor(AccountResponseDto.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (JsonGenerator generator = objectMapper.createGenerator(outputStream)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      streamRows(resultSet -> {
+        try {
+          writer.writeValue(generator, new AccountResponseDto(
+              UuidUtils.fromBytes(resultSet.getBytes(1)),
+              resultSet.getLong(2),
+              resultSet.getString(3),
+              resultSet.getTimestamp(4)));
+          generator.writeRaw('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
+
+  private void streamRows(RowCallbackHandler rowHandler) {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_ALL_SQL,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(FETCH_SIZE);
+      return statement;
+    }, rowHandler);
+  }
+}
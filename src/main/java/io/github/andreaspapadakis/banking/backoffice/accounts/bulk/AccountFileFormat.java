@@ -0,0 +1,6 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.bulk;
+
+public enum AccountFileFormat {
+  CSV,
+  NDJSON
+}
@@ -0,0 +1,283 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountImportSummary;
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.InvalidImportException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountService;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.AccountImportProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorMessages;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports accounts from a CSV or NDJSON upload in two overlapping stages. The request thread
+ * parses records into chunks and hands them over through a bounded queue; a fixed set of workers
+ * validates and batch-inserts each chunk through {@link AccountService#saveAll}. When the workers
+ * fall behind the queue fills up, the reader blocks and stops draining the upload, which pushes
+ * back on the client instead of buffering the file in memory.
+ *
+ * <p>Every record opens a new account with a zero balance, exactly like {@code POST
+ * /api/accounts}; only the currency is read. The id, balance and createdAt columns of an export
+ * are ignored, so importing an export creates fresh accounts rather than restoring the old ones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountImporter {
+
+  private static final Chunk END = new Chunk(-1, List.of());
+  // stands for a record that could not be parsed, compared by identity
+  private static final AccountCreateRequest MALFORMED = new AccountCreateRequest(null);
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String CURRENCY_COLUMN = "currency";
+
+  private final AccountService accountService;
+  private final AccountImportProperty accountImportProperty;
+  private final ObjectMapper objectMapper;
+  private final ErrorMessages errorMessages;
+  // shared by every import; each one is bounded by app.accounts.import.parallelism instead
+  private final ExecutorService workerExecutor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("account-import-", 0).factory());
+
+  @PreDestroy
+  void stop() {
+    workerExecutor.shutdownNow();
+  }
+
+  public AccountImportSummary importAccounts(InputStream inputStream,
+                                             AccountFileFormat format,
+                                             boolean gzip) throws IOException {
+    int workers = accountImportProperty.parallelism();
+    BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(accountImportProperty.queueCapacity());
+    Tally tally = new Tally(accountImportProperty.maxReportedRejections());
+    CompletableFuture<?>[] workerRuns = new CompletableFuture<?>[workers];
+
+    for (int i = 0; i < workers; i++) {
+      workerRuns[i] = CompletableFuture.runAsync(() -> insertChunks(chunks, tally),
+          workerExecutor);
+    }
+
+    try {
+      readChunks(gzip ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream, format,
+          chunks, tally);
+    } finally {
+      for (int i = 0; i < workers; i++) {
+        put(chunks, END);
+      }
+      CompletableFuture.allOf(workerRuns).join();
+    }
+
+    return tally.summary();
+  }
+
+  private void readChunks(InputStream inputStream,
+                          AccountFileFormat format,
+                          BlockingQueue<Chunk> chunks,
+                          Tally tally) throws IOException {
+    Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    RecordSource records = format == AccountFileFormat.CSV
+        ? csvRecords(reader)
+        : ndjsonRecords(reader);
+    int chunkSize = accountImportProperty.chunkSize();
+    List<AccountCreateRequest> requests = new ArrayList<>(chunkSize);
+    int firstIndex = 0;
+    int index = 0;
+    AccountCreateRequest request;
+
+    while ((request = records.next()) != null) {
+      if (request == MALFORMED) {
+        // a malformed record still takes its index, so that positions match the upload
+        tally.accept(AccountBatchItemResult.failed(index,
+            errorMessages.get(ErrorCode.MALFORMED_RECORD)));
+        requests.add(null);
+      } else {
+        requests.add(request);
+      }
+      index++;
+
+      if (requests.size() == chunkSize) {
+        put(chunks, new Chunk(firstIndex, requests));
+        requests = new ArrayList<>(chunkSize);
+        firstIndex = index;
+      }
+    }
+
+    if (!requests.isEmpty()) {
+      put(chunks, new Chunk(firstIndex, requests));
+    }
+  }
+
+  private void insertChunks(BlockingQueue<Chunk> chunks, Tally tally) {
+    try {
+      for (Chunk chunk = chunks.take(); chunk != END; chunk = chunks.take()) {
+        insertChunk(chunk, tally);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void insertChunk(Chunk chunk, Tally tally) {
+    // malformed records were reported while reading, they only hold their position here
+    List<Integer> indexes = new ArrayList<>(chunk.requests().size());
+    List<AccountCreateRequest> requests = new ArrayList<>(chunk.requests().size());
+
+    for (int i = 0; i < chunk.requests().size(); i++) {
+      if (chunk.requests().get(i) != null) {
+        indexes.add(chunk.firstIndex() + i);
+        requests.add(chunk.requests().get(i));
+      }
+    }
+
+    AtomicInteger reported = new AtomicInteger();
+    try {
+      accountService.saveAll(requests.iterator(), result -> {
+        reported.incrementAndGet();
+        tally.accept(new AccountBatchItemResult(indexes.get(result.index()), result.account(),
+            result.error()));
+      });
+    } catch (RuntimeException e) {
+      log.error("Account import chunk starting at {} failed", chunk.firstIndex(), e);
+      String message = errorMessages.get(ErrorCode.ITEM_FAILED);
+      for (int i = reported.get(); i < requests.size(); i++) {
+        tally.accept(AccountBatchItemResult.failed(indexes.get(i), message));
+      }
+    }
+  }
+
+  private RecordSource csvRecords(Reader reader) throws IOException {
+    CsvReader csvReader = new CsvReader(reader, BUFFER_SIZE);
+    int currencyColumn = readCurrencyColumn(csvReader);
+
+    return () -> {
+      List<String> values = csvReader.readRecord();
+
+      while (values != null && values.size() == 1 && values.getFirst().isBlank()) {
+        values = csvReader.readRecord();
+      }
+
+      if (values == null) {
+        return null;
+      }
+      // a malformed record has no values at all
+      return currencyColumn < values.size()
+          ? new AccountCreateRequest(values.get(currencyColumn).trim())
+          : MALFORMED;
+    };
+  }
+
+  private int readCurrencyColumn(CsvReader csvReader) throws IOException {
+    List<String> columns = csvReader.readRecord();
+
+    if (columns != null) {
+      for (int i = 0; i < columns.size(); i++) {
+        if (columns.get(i).trim().equalsIgnoreCase(CURRENCY_COLUMN)) {
+          return i;
+        }
+      }
+    }
+
+    throw new InvalidImportException();
+  }
+
+  private RecordSource ndjsonRecords(Reader reader) {
+    BufferedReader lineReader = new BufferedReader(reader, BUFFER_SIZE);
+    ObjectReader jsonReader = objectMapper.readerFor(AccountCreateRequest.class);
+
+    return () -> {
+      String line = lineReader.readLine();
+
+      while (line != null && line.isBlank()) {
+        line = lineReader.readLine();
+      }
+
+      return line == null ? null : parseNdjson(jsonReader, line);
+    };
+  }
+
+  private AccountCreateRequest parseNdjson(ObjectReader jsonReader, String line) {
+    try {
+      AccountCreateRequest request = jsonReader.readValue(line);
+
+      // a literal null line reads as no request at all
+      return request == null ? MALFORMED : request;
+    } catch (JsonProcessingException e) {
+      return MALFORMED;
+    }
+  }
+
+  private static void put(BlockingQueue<Chunk> chunks, Chunk chunk) {
+    try {
+      chunks.put(chunk);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while queueing an import chunk", e);
+    }
+  }
+
+  private record Chunk(int firstIndex, List<AccountCreateRequest> requests) {}
+
+  @FunctionalInterface
+  private interface RecordSource {
+
+    /** Returns the next request, MALFORMED for an unreadable record or null at the end. */
+    AccountCreateRequest next() throws IOException;
+  }
+
+  private static final class Tally {
+
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Queue<AccountBatchItemResult> rejections = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reportedRejections = new AtomicInteger();
+    private final int maxReportedRejections;
+
+    private Tally(int maxReportedRejections) {
+      this.maxReportedRejections = maxReportedRejections;
+    }
+
+    private void accept(AccountBatchItemResult result) {
+      if (result.error() == null) {
+        imported.increment();
+        return;
+      }
+
+      rejected.increment();
+      if (reportedRejections.getAndIncrement() < maxReportedRejections) {
+        rejections.add(result);
+      }
+    }
+
+    private AccountImportSummary summary() {
+      List<AccountBatchItemResult> sortedRejections = new ArrayList<>(rejections);
+      sortedRejections.sort((left, right) -> Integer.compare(left.index(), right.index()));
+
+      return new AccountImportSummary(imported.sum(), rejected.sum(), sortedRejections);
+    }
+  }
+}
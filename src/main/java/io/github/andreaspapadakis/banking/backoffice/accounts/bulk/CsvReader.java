@@ -0,0 +1,110 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records: comma separated fields that may be enclosed in double quotes, in which
+ * case they can hold commas, line breaks and doubled quotes. A record ends at LF, CR or CRLF.
+ */
+final class CsvReader {
+
+  private static final List<String> MALFORMED = List.of();
+
+  private final Reader reader;
+  private final char[] buffer;
+  private final StringBuilder field = new StringBuilder();
+  private int position;
+  private int limit;
+
+  CsvReader(Reader reader, int bufferSize) {
+    this.reader = reader;
+    this.buffer = new char[bufferSize];
+  }
+
+  /**
+   * Returns the fields of the next record, an empty list when the record is malformed (text after
+   * a closing quote, or a quote that is never closed), or null once the input is exhausted.
+   */
+  List<String> readRecord() throws IOException {
+    if (peek() == -1) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    boolean wellFormed = true;
+    int separator;
+
+    do {
+      wellFormed &= readField();
+      values.add(field.toString());
+      separator = read();
+    } while (separator == ',');
+
+    // a CRLF pair ends one record, not two
+    if (separator == '\r' && peek() == '\n') {
+      read();
+    }
+
+    return wellFormed ? values : MALFORMED;
+  }
+
+  private boolean readField() throws IOException {
+    field.setLength(0);
+
+    if (peek() != '"') {
+      while (!isFieldEnd(peek())) {
+        field.append((char) read());
+      }
+      return true;
+    }
+
+    read();
+    for (int c = read(); c != '"' || peek() == '"'; c = read()) {
+      if (c == -1) {
+        return false;
+      }
+      if (c == '"') {
+        // the first quote of a doubled pair escapes the second
+        c = read();
+      }
+      field.append((char) c);
+    }
+
+    boolean wellFormed = true;
+    while (!isFieldEnd(peek())) {
+      read();
+      wellFormed = false;
+    }
+    return wellFormed;
+  }
+
+  private static boolean isFieldEnd(int c) {
+    return c == ',' || c == '\n' || c == '\r' || c == -1;
+  }
+
+  private int peek() throws IOException {
+    if (position == limit) {
+      int read = reader.read(buffer, 0, buffer.length);
+
+      if (read <= 0) {
+        return -1;
+      }
+      position = 0;
+      limit = read;
+    }
+
+    return buffer[position];
+  }
+
+  private int read() throws IOException {
+    int c = peek();
+
+    if (c != -1) {
+      position++;
+    }
+    return c;
+  }
+}
@@ -1,18 +1,27 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.controller;
 
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountPageResponse;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencySummaryDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.DebtClearingSummary;
 import io.github.andreaspapadakis.banking.backoffice.shared.validation.AllowedCurrency;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import java.io.IOException;
-import java.net.URISyntaxException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 public interface AccountApi {
@@ -20,21 +29,41 @@ public interface AccountApi {
   ResponseEntity<AccountResponseDto> save(@Valid
                                           AccountCreateRequest accountCreateRequest);
 
-  ResponseEntity<List<AccountResponseDto>> getAllAccounts();
+  ResponseEntity<List<AccountBatchItemResult>> saveBatch(
+      List<AccountCreateRequest> accountCreateRequests);
+
+  void saveBatchStream(InputStream requestBody, HttpServletResponse response)
+      throws IOException;
+
+  ResponseEntity<AccountPageResponse> getAllAccounts(String cursor,
+                                                    @Positive
+                                                    Integer size);
+
+  ResponseEntity<StreamingResponseBody> streamAllAccounts();
 
   ResponseEntity<AccountResponseDto> getAccountById(UUID id);
 
+  ResponseEntity<BalanceAsOfDto> getBalanceAsOf(UUID id, Instant asOf);
+
   ResponseEntity<List<AccountResponseDto>> getAccountsByCurrency(
       @RequestParam
-      @Pattern(regexp = "^[A-Z]{3}$",
-          message = "{currencyPatternErrorMessage}")
       @AllowedCurrency
       String currency);
 
+  ResponseEntity<List<CurrencySummaryDto>> getCurrencySummaries();
+
   ResponseEntity<AccountResponseDto> update(UUID id,
                                             @Valid
                                             AccountUpdateRequest accountUpdateRequest);
 
+  ResponseEntity<AccountResponseDto> credit(UUID id,
+                                            @Valid
+                                            BalanceChangeRequest balanceChangeRequest);
+
+  ResponseEntity<AccountResponseDto> debit(UUID id,
+                                           @Valid
+                                           BalanceChangeRequest balanceChangeRequest);
+
   ResponseEntity<Void> deleteById(UUID id);
 
   ResponseEntity<Void> deleteAll();
@@ -42,6 +71,9 @@ public interface AccountApi {
   // for fun
   ResponseEntity<List<AccountResponseDto>> clearDebts();
 
-  ResponseEntity<Object> russianRoulette(UUID id)
-      throws IOException, URISyntaxException;
+  ResponseEntity<DebtClearingSummary> clearDebtsInBulk();
+
+  ResponseEntity<StreamingResponseBody> streamClearedDebts();
+
+  ResponseEntity<Object> russianRoulette(UUID id);
 }
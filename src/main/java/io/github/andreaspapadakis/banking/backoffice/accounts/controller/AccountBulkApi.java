@@ -0,0 +1,23 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountImportSummary;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Validated
+public interface AccountBulkApi {
+
+  ResponseEntity<StreamingResponseBody> exportCsv(boolean gzip);
+
+  ResponseEntity<StreamingResponseBody> exportNdjson(boolean gzip);
+
+  ResponseEntity<AccountImportSummary> importCsv(InputStream requestBody, String contentEncoding)
+      throws IOException;
+
+  ResponseEntity<AccountImportSummary> importNdjson(InputStream requestBody,
+                                                    String contentEncoding)
+      throws IOException;
+}
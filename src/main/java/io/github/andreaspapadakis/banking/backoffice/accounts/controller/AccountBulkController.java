@@ -0,0 +1,87 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.bulk.AccountExporter;
+import io.github.andreaspapadakis.banking.backoffice.accounts.bulk.AccountFileFormat;
+import io.github.andreaspapadakis.banking.backoffice.accounts.bulk.AccountImporter;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountImportSummary;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+public class AccountBulkController implements AccountBulkApi {
+  private static final String TEXT_CSV_VALUE = "text/csv";
+  private static final String GZIP = "gzip";
+
+  private final AccountExporter accountExporter;
+  private final AccountImporter accountImporter;
+
+  @Override
+  @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportCsv(@RequestParam(defaultValue = "false")
+                                                         boolean gzip) {
+    return export(AccountFileFormat.CSV, MediaType.parseMediaType(TEXT_CSV_VALUE), gzip);
+  }
+
+  @Override
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportNdjson(@RequestParam(defaultValue = "false")
+                                                            boolean gzip) {
+    return export(AccountFileFormat.NDJSON, MediaType.APPLICATION_NDJSON, gzip);
+  }
+
+  @Override
+  @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+  public ResponseEntity<AccountImportSummary> importCsv(InputStream requestBody,
+                                                        @RequestHeader(
+                                                            value = HttpHeaders.CONTENT_ENCODING,
+                                                            required = false)
+                                                        String contentEncoding)
+      throws IOException {
+    AccountImportSummary responseBody = accountImporter.importAccounts(requestBody,
+        AccountFileFormat.CSV, GZIP.equalsIgnoreCase(contentEncoding));
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  @Override
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<AccountImportSummary> importNdjson(InputStream requestBody,
+                                                           @RequestHeader(
+                                                               value = HttpHeaders.CONTENT_ENCODING,
+                                                               required = false)
+                                                           String contentEncoding)
+      throws IOException {
+    AccountImportSummary responseBody = accountImporter.importAccounts(requestBody,
+        AccountFileFormat.NDJSON, GZIP.equalsIgnoreCase(contentEncoding));
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  private ResponseEntity<StreamingResponseBody> export(AccountFileFormat format,
+                                                       MediaType mediaType,
+                                                       boolean gzip) {
+    StreamingResponseBody responseBody = outputStream ->
+        accountExporter.export(outputStream, format, gzip);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(mediaType);
+
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+
+    return response.body(responseBody);
+  }
+}
@@ -1,16 +1,34 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountPageResponse;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencySummaryDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.DebtClearingSummary;
 import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountService;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,7 +37,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
@@ -27,6 +47,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @RequiredArgsConstructor
 public class AccountController implements AccountApi {
   private final AccountService accountService;
+  private final ObjectMapper objectMapper;
 
   @Override
   @PostMapping
@@ -41,14 +62,75 @@ public class AccountController implements AccountApi {
     return ResponseEntity.created(location).body(responseBody);
   }
 
+  @Override
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<AccountBatchItemResult>> saveBatch(
+      @RequestBody List<AccountCreateRequest> accountCreateRequests) {
+    List<AccountBatchItemResult> responseBody = accountService.saveAll(accountCreateRequests);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.MULTI_STATUS);
+  }
+
+  @Override
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public void saveBatchStream(InputStream requestBody, HttpServletResponse response)
+      throws IOException {
+    response.setStatus(HttpStatus.MULTI_STATUS.value());
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+    ObjectWriter writer = objectMapper.writerFor(AccountBatchItemResult.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (MappingIterator<AccountCreateRequest> accountCreateRequests = objectMapper
+        .readerFor(AccountCreateRequest.class)
+        .readValues(requestBody);
+         JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+      accountService.saveAll(accountCreateRequests, result -> {
+        try {
+          writer.writeValue(generator, result);
+          generator.writeRaw('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
+
   @Override
   @GetMapping
-  public ResponseEntity<List<AccountResponseDto>> getAllAccounts() {
-    List<AccountResponseDto> responseBody = accountService.getAll();
+  public ResponseEntity<AccountPageResponse> getAllAccounts(@RequestParam(required = false)
+                                                           String cursor,
+                                                           @RequestParam(required = false)
+                                                           Integer size) {
+    AccountPageResponse responseBody = accountService.getAll(cursor, size);
 
     return new ResponseEntity<>(responseBody, HttpStatus.OK);
   }
 
+  @Override
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamAllAccounts() {
+    ObjectWriter writer = objectMapper.writerFor(AccountResponseDto.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    StreamingResponseBody responseBody = outputStream -> {
+      try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+        accountService.streamAll(account -> {
+          try {
+            writer.writeValue(generator, account);
+            generator.writeRaw('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(responseBody);
+  }
+
   @Override
   @GetMapping(value = "/{id}")
   public ResponseEntity<AccountResponseDto> getAccountById(@PathVariable
@@ -58,6 +140,18 @@ public class AccountController implements AccountApi {
     return new ResponseEntity<>(responseBody, HttpStatus.OK);
   }
 
+  @Override
+  @GetMapping(value = "/{id}/balance")
+  public ResponseEntity<BalanceAsOfDto> getBalanceAsOf(@PathVariable UUID id,
+                                                       @RequestParam(required = false)
+                                                       @DateTimeFormat(iso = ISO.DATE_TIME)
+                                                       Instant asOf) {
+    BalanceAsOfDto responseBody = accountService.getBalanceAsOf(id,
+        asOf == null ? Instant.now() : asOf);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
   @Override
   @GetMapping(params = "currency")
   public ResponseEntity<List<AccountResponseDto>> getAccountsByCurrency(String currency) {
@@ -66,6 +160,14 @@ public class AccountController implements AccountApi {
     return new ResponseEntity<>(responseBody, HttpStatus.OK);
   }
 
+  @Override
+  @GetMapping(value = "/summary")
+  public ResponseEntity<List<CurrencySummaryDto>> getCurrencySummaries() {
+    List<CurrencySummaryDto> responseBody = accountService.getCurrencySummaries();
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
   @Override
   @PatchMapping("/{id}")
   public ResponseEntity<AccountResponseDto> update(@PathVariable UUID id,
@@ -76,6 +178,26 @@ public class AccountController implements AccountApi {
     return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
   }
 
+  @Override
+  @PostMapping("/{id}/credit")
+  public ResponseEntity<AccountResponseDto> credit(@PathVariable UUID id,
+                                                   @RequestBody
+                                                   BalanceChangeRequest balanceChangeRequest) {
+    AccountResponseDto responseBody = accountService.credit(id, balanceChangeRequest);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
+  }
+
+  @Override
+  @PostMapping("/{id}/debit")
+  public ResponseEntity<AccountResponseDto> debit(@PathVariable UUID id,
+                                                  @RequestBody
+                                                  BalanceChangeRequest balanceChangeRequest) {
+    AccountResponseDto responseBody = accountService.debit(id, balanceChangeRequest);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
+  }
+
   @Override
   @DeleteMapping(value = "/{id}")
   public ResponseEntity<Void> deleteById(@PathVariable UUID id) {
@@ -101,16 +223,44 @@ public class AccountController implements AccountApi {
     return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
   }
 
+  @Override
+  @GetMapping(value = "xarizeiToMagazi/bulk")
+  public ResponseEntity<DebtClearingSummary> clearDebtsInBulk() {
+    DebtClearingSummary responseBody = accountService.clearDebtsInBulk(clearedIds -> {});
+
+    return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
+  }
+
+  @Override
+  @GetMapping(value = "xarizeiToMagazi/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamClearedDebts() {
+    StreamingResponseBody responseBody = outputStream ->
+        accountService.clearDebtsInBulk(clearedIds -> {
+          try {
+            for (UUID clearedId : clearedIds) {
+              outputStream.write(('"' + clearedId.toString() + "\"\n")
+                  .getBytes(StandardCharsets.UTF_8));
+            }
+            outputStream.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+
+    return ResponseEntity.accepted()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(responseBody);
+  }
+
   @Override
   @PostMapping(value = "/russianRoulette/{loggedInId}")
-  public ResponseEntity<Object> russianRoulette(@PathVariable UUID id)
-      throws IOException, URISyntaxException {
+  public ResponseEntity<Object> russianRoulette(@PathVariable UUID id) {
     Object responseBody = accountService.russianRoulette(id);
 
     if (responseBody instanceof String) {
       return new ResponseEntity<>(responseBody, HttpStatus.GONE);
     } else if (responseBody instanceof AccountResponseDto) {
-      if (((AccountResponseDto) responseBody).balance() == 0d) {
+      if (((AccountResponseDto) responseBody).balance() == 0L) {
         return new ResponseEntity<>(responseBody, HttpStatus.RESET_CONTENT);
       }
       return new ResponseEntity<>(responseBody, HttpStatus.ACCEPTED);
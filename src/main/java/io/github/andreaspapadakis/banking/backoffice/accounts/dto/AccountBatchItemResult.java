@@ -0,0 +1,14 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+public record AccountBatchItemResult(int index,
+                                     AccountResponseDto account,
+                                     String error) {
+
+  public static AccountBatchItemResult created(int index, AccountResponseDto account) {
+    return new AccountBatchItemResult(index, account, null);
+  }
+
+  public static AccountBatchItemResult failed(int index, String error) {
+    return new AccountBatchItemResult(index, null, error);
+  }
+}
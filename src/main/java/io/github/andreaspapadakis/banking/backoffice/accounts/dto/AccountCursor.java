@@ -0,0 +1,41 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.InvalidCursorException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last account of a page, ordered by {@code (createdAt, id)}.
+ * Travels to the client as an opaque url-safe token.
+ */
+public record AccountCursor(Date createdAt, UUID id) {
+
+  private static final char SEPARATOR = ':';
+
+  public static AccountCursor of(Account account) {
+    return new AccountCursor(account.getCreatedAt(), account.getId());
+  }
+
+  public static AccountCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+
+      return new AccountCursor(new Date(Long.parseLong(decoded.substring(0, separatorIndex))),
+          UUID.fromString(decoded.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt.getTime() + String.valueOf(SEPARATOR) + id;
+
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
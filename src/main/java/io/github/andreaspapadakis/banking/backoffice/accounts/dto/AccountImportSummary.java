@@ -0,0 +1,7 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import java.util.List;
+
+public record AccountImportSummary(long imported,
+                                   long rejected,
+                                   List<AccountBatchItemResult> rejections) {}
@@ -0,0 +1,6 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import java.util.List;
+
+public record AccountPageResponse(List<AccountResponseDto> items,
+                                  String nextCursor) {}
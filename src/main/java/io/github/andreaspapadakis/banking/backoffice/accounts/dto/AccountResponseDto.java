@@ -1,9 +1,15 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.Date;
 import java.util.UUID;
 
+/**
+ * The balance is in minor units of the currency and is written as a decimal by
+ * {@link AccountResponseDtoSerializer}.
+ */
+@JsonSerialize(using = AccountResponseDtoSerializer.class)
 public record AccountResponseDto(UUID id,
-                                 Double balance,
+                                 long balance,
                                  String currency,
                                  Date createdAt) {}
@@ -0,0 +1,59 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import java.io.IOException;
+
+/**
+ * Writes the balance as a JSON number with the currency's fraction digits straight from its
+ * minor units, through a small char buffer, so no {@code BigDecimal} or {@code String} is
+ * created for it. The buffer is allocated per call: a {@code ThreadLocal} would be filled once
+ * per virtual thread anyway, since those are never reused.
+ */
+public class AccountResponseDtoSerializer extends StdSerializer<AccountResponseDto> {
+
+  public AccountResponseDtoSerializer() {
+    super(AccountResponseDto.class);
+  }
+
+  @Override
+  public void serialize(AccountResponseDto account, JsonGenerator generator,
+                        SerializerProvider provider) throws IOException {
+    generator.writeStartObject(account);
+
+    if (account.id() == null) {
+      generator.writeNullField("id");
+    } else {
+      generator.writeStringField("id", account.id().toString());
+    }
+
+    generator.writeFieldName("balance");
+    writeBalance(account.balance(), account.currency(), generator);
+    generator.writeStringField("currency", account.currency());
+    generator.writeFieldName("createdAt");
+
+    if (account.createdAt() == null) {
+      generator.writeNull();
+    } else {
+      provider.defaultSerializeDateValue(account.createdAt(), generator);
+    }
+
+    generator.writeEndObject();
+  }
+
+  private static void writeBalance(long balance, String currency, JsonGenerator generator)
+      throws IOException {
+    int scale = currency == null ? 0 : MoneyUtils.scale(currency);
+
+    if (scale == 0) {
+      generator.writeNumber(balance);
+      return;
+    }
+
+    char[] buffer = new char[MoneyUtils.MAX_DECIMAL_LENGTH];
+    int offset = MoneyUtils.toChars(balance, scale, buffer);
+    generator.writeNumber(buffer, offset, buffer.length - offset);
+  }
+}
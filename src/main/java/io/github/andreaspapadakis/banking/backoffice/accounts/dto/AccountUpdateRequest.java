@@ -2,11 +2,9 @@ package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
 
 import io.github.andreaspapadakis.banking.backoffice.shared.validation.AllowedCurrency;
 import io.github.andreaspapadakis.banking.backoffice.shared.validation.AtLeastOneFieldPresent;
-import jakarta.validation.constraints.Pattern;
+import java.math.BigDecimal;
 
 @AtLeastOneFieldPresent
-public record AccountUpdateRequest(Double balance,
-                                   @Pattern(regexp = "^[A-Z]{3}$",
-                                       message = "{currencyPatternErrorMessage}")
+public record AccountUpdateRequest(BigDecimal balance,
                                    @AllowedCurrency
                                    String currency) {}
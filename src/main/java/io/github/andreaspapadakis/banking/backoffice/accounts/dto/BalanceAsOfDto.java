@@ -0,0 +1,10 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record BalanceAsOfDto(UUID accountId,
+                             Instant asOf,
+                             BigDecimal balance,
+                             String currency) {}
@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+
+public record BalanceChangeRequest(@NotNull(message = "{amountRequiredErrorMessage}")
+                                   @Positive(message = "{amountPositiveErrorMessage}")
+                                   BigDecimal amount) {}
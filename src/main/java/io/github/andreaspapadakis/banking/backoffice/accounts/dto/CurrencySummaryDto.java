@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencySummaryDto(String currency,
+                                 long count,
+                                 BigDecimal sum,
+                                 BigDecimal min,
+                                 BigDecimal max) {}
@@ -0,0 +1,5 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+public record CurrencyTotals(String currency,
+                             long count,
+                             long sum) {}
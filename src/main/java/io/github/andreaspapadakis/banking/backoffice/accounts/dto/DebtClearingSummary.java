@@ -0,0 +1,4 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.dto;
+
+public record DebtClearingSummary(long clearedAccounts,
+                                  int chunks) {}
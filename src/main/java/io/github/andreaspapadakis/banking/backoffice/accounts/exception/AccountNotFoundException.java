@@ -0,0 +1,15 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class AccountNotFoundException extends DomainException {
+
+  public AccountNotFoundException() {
+    this(ErrorCode.ACCOUNT_NOT_FOUND);
+  }
+
+  public AccountNotFoundException(ErrorCode errorCode) {
+    super(errorCode);
+  }
+}
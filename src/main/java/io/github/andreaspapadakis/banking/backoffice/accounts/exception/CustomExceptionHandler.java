@@ -1,6 +1,9 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
 
 import io.github.andreaspapadakis.banking.backoffice.shared.exception.ApiException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorMessages;
 import io.github.andreaspapadakis.banking.backoffice.shared.utils.StringUtils;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,7 +12,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
@@ -32,20 +34,22 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @Slf4j
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
-  private final MessageSource messageSource;
+  private final ErrorMessages errorMessages;
 
-  @ExceptionHandler(value = NoSuchElementException.class)
-  public ResponseEntity<Object> handleNoSuchElementException(NoSuchElementException ex) {
-    return new ResponseEntity<>(new ApiException(ex.getMessage(),
+  @ExceptionHandler(value = DomainException.class)
+  public ResponseEntity<Object> handleDomainException(DomainException ex) {
+    ErrorCode errorCode = ex.getErrorCode();
+
+    return new ResponseEntity<>(new ApiException(errorMessages.get(errorCode),
             LocalDateTime.now()),
-            HttpStatus.NOT_FOUND);
+            errorCode.status());
   }
 
-  @ExceptionHandler(value = RussianRouletteException.class)
-  public ResponseEntity<Object> handleRussianRouletteException(RussianRouletteException ex) {
+  @ExceptionHandler(value = NoSuchElementException.class)
+  public ResponseEntity<Object> handleNoSuchElementException(NoSuchElementException ex) {
     return new ResponseEntity<>(new ApiException(ex.getMessage(),
             LocalDateTime.now()),
-            HttpStatus.FORBIDDEN);
+            HttpStatus.NOT_FOUND);
   }
 
   @ExceptionHandler(value = MethodArgumentTypeMismatchException.class)
@@ -55,9 +59,8 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
     String requiredTypeName = (ex.getRequiredType() != null)
         ? ex.getRequiredType().getSimpleName()
         : "unknown";
-    String errorMessage = messageSource.getMessage("defaultMethodArgumentTypeMismatchErrorMessage",
-        new Object[]{ex.getName(), ex.getValue(), requiredTypeName},
-        null);
+    String errorMessage = errorMessages.typeMismatch(ex.getName(), ex.getValue(),
+        requiredTypeName);
     ApiException exception = new ApiException(errorMessage, LocalDateTime.now());
 
     return ResponseEntity
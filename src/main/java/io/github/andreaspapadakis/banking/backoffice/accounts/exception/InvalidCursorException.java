@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class InvalidCursorException extends DomainException {
+
+  public InvalidCursorException() {
+    super(ErrorCode.INVALID_CURSOR);
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class InvalidImportException extends DomainException {
+
+  public InvalidImportException() {
+    super(ErrorCode.INVALID_IMPORT_HEADER);
+  }
+}
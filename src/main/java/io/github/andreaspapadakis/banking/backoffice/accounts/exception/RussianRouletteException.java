@@ -1,8 +1,11 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.exception;
 
-public class RussianRouletteException extends RuntimeException {
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
 
-  public RussianRouletteException(String message) {
-    super(message);
+public class RussianRouletteException extends DomainException {
+
+  public RussianRouletteException(ErrorCode errorCode) {
+    super(errorCode);
   }
 }
@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.id;
+
+import java.util.UUID;
+
+public interface AccountIdGenerator {
+
+  UUID nextId();
+}
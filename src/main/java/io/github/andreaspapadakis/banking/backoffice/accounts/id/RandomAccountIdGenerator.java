@@ -0,0 +1,15 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.id;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.accounts.id-generator", havingValue = "random")
+public class RandomAccountIdGenerator implements AccountIdGenerator {
+
+  @Override
+  public UUID nextId() {
+    return UUID.randomUUID();
+  }
+}
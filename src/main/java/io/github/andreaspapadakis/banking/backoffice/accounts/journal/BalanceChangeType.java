@@ -0,0 +1,14 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.journal;
+
+public enum BalanceChangeType {
+  OPENED,
+  ADJUSTED,
+  CREDITED,
+  DEBITED,
+  TRANSFERRED_IN,
+  TRANSFERRED_OUT,
+  DEBT_CLEARED,
+  ROULETTE,
+  LEDGER_FLUSHED,
+  CLOSED
+}
@@ -0,0 +1,155 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.journal;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceJournalEntry;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceSnapshot;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.BalanceJournalRepository;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.JournalProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Append-only history of balance mutations. Entries are written in the transaction of the
+ * mutation they describe, so the journal never disagrees with {@code ACCOUNTS}. Every
+ * {@code app.journal.snapshot-interval} the accounts with entries committed since the previous
+ * snapshot get a new one, so a point-in-time balance is the latest snapshot before that time
+ * plus the entries no snapshot up to then had claimed, about one interval of them.
+ *
+ * <p>Hot accounts owned by the balance ledger are journaled when the ledger flushes, with the net
+ * delta of the flush.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceJournal {
+
+  // entries are claimed by the first snapshot that sees them committed, whenever they were recorded
+  private static final String CLAIM_SQL = """
+      update BALANCE_JOURNAL set snapshot_at = ?
+      where snapshot_at is null and recorded_at <= ?
+      """;
+  // the latest snapshot of an account plus the entries just claimed, for the accounts that moved
+  private static final String SNAPSHOT_SQL = """
+      insert into BALANCE_SNAPSHOTS (account_id, taken_at, balance)
+      select j.account_id, ?, coalesce((select s.balance from BALANCE_SNAPSHOTS s
+                                        where s.account_id = j.account_id
+                                        order by s.taken_at desc
+                                        limit 1), 0) + sum(j.delta)
+      from BALANCE_JOURNAL j
+      where j.snapshot_at = ?
+      group by j.account_id
+      """;
+  private static final String CLOSE_ALL_SQL = """
+      insert into BALANCE_JOURNAL (id, account_id, recorded_at, type, delta, currency)
+      select next value for BALANCE_JOURNAL_SEQ, a.id, ?, ?, -a.balance, a.currency
+      from ACCOUNTS a
+      """;
+
+  private final BalanceJournalRepository balanceJournalRepository;
+  private final JournalProperty journalProperty;
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private ScheduledExecutorService snapshotter;
+
+  @PostConstruct
+  void start() {
+    long intervalMillis = journalProperty.snapshotInterval().toMillis();
+    snapshotter = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("journal-snapshotter").daemon().factory());
+    snapshotter.scheduleWithFixedDelay(this::snapshotQuietly,
+        intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    snapshotter.shutdownNow();
+  }
+
+  public void record(UUID accountId, BalanceChangeType type, long delta, String currency) {
+    balanceJournalRepository.save(new BalanceJournalEntry(accountId, type, delta, currency));
+  }
+
+  public void recordAll(List<BalanceJournalEntry> entries) {
+    balanceJournalRepository.saveAll(entries);
+  }
+
+  /**
+   * Closes every account in one statement, to be called right before they are all deleted.
+   */
+  public void recordAllClosed() {
+    jdbcTemplate.update(CLOSE_ALL_SQL, Timestamp.from(Instant.now()),
+        BalanceChangeType.CLOSED.name());
+  }
+
+  /**
+   * Returns the balance the account had at {@code asOf}, or nothing if it did not exist yet or
+   * had already been closed.
+   */
+  public Optional<BalanceAsOfDto> balanceAsOf(UUID accountId, Instant asOf) {
+    List<BalanceJournalEntry> latest =
+        balanceJournalRepository.findLatest(accountId, asOf, Limit.of(1));
+
+    if (latest.isEmpty() || latest.getFirst().getType() == BalanceChangeType.CLOSED) {
+      return Optional.empty();
+    }
+
+    List<BalanceSnapshot> snapshot =
+        balanceJournalRepository.findLatestSnapshot(accountId, asOf, Limit.of(1));
+    Instant takenAt = snapshot.isEmpty() ? Instant.EPOCH : snapshot.getFirst().getTakenAt();
+    // the entries up to asOf the snapshot did not claim, including those that committed late
+    long balance = (snapshot.isEmpty() ? 0L : snapshot.getFirst().getBalance())
+        + balanceJournalRepository.sumUnclaimedDeltas(accountId, takenAt, asOf);
+    String currency = latest.getFirst().getCurrency();
+
+    return Optional.of(new BalanceAsOfDto(accountId, asOf,
+        MoneyUtils.toDecimal(balance, currency), currency));
+  }
+
+  /**
+   * Snapshots every account with entries that committed since the previous snapshot. Entries are
+   * claimed by commit rather than by timestamp, so one recorded before the previous snapshot by a
+   * transaction that was still in flight then is counted now instead of never.
+   */
+  public void snapshot() {
+    // the columns keep microseconds, and the snapshot finds its claims by equality with the cut
+    Instant cut = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    Instant previousCut = Optional.ofNullable(balanceJournalRepository.findLastSnapshotTime())
+        .orElse(Instant.EPOCH);
+
+    if (!cut.isAfter(previousCut)) {
+      return;
+    }
+
+    Integer snapshots = new TransactionTemplate(transactionManager).execute(status -> {
+      jdbcTemplate.update(CLAIM_SQL, Timestamp.from(cut), Timestamp.from(cut));
+
+      return jdbcTemplate.update(SNAPSHOT_SQL, Timestamp.from(cut), Timestamp.from(cut));
+    });
+    log.info("Took {} balance snapshots up to {}", snapshots, cut);
+  }
+
+  private void snapshotQuietly() {
+    try {
+      snapshot();
+    } catch (RuntimeException e) {
+      log.error("Balance snapshot failed, will retry on next tick", e);
+    }
+  }
+}
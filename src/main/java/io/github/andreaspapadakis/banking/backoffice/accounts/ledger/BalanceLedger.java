@@ -0,0 +1,483 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.ledger;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.AccountNotFoundException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceChangeType;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceJournal;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceJournalEntry;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.LedgerProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Optional in-memory owner of the balances of the configured hot accounts. Mutations are applied
+ * with a compare-and-set on the account's balance, made durable in the {@link LedgerJournal}
+ * before they are acknowledged, and written back to {@code ACCOUNTS} in coalesced batches every
+ * {@code app.ledger.flush-interval}. Until then the table may lag behind the ledger for hot
+ * accounts, so single-account reads go through {@link #view(UUID)}.
+ *
+ * <p>While the ledger owns an account nothing else writes its row, since flushes write absolute
+ * balances. Writers that go to the table release the account first: it is fenced, so a mutation
+ * still holding it fails its compare-and-set, flushed, and kept from being loaded again until the
+ * writer is done. The fenced mutation then waits and retries against the reloaded account.
+ *
+ * <p>A mutation appends its journal entry under the read side of {@code snapshotLock} and a flush
+ * seals the segment and reads the balances under the write side. Every entry a flush has covered
+ * is therefore in a sealed segment it deletes, and the entries left in the journal are always
+ * newer than the table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceLedger {
+
+  private static final String UPDATE_BALANCE_SQL = "update ACCOUNTS set balance = ? where id = ?";
+
+  private final LedgerProperty ledgerProperty;
+  private final AccountRepository accountRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final BalanceJournal balanceJournal;
+  private final EntityManagerFactory entityManagerFactory;
+  private final Map<UUID, HotAccount> accounts = new ConcurrentHashMap<>();
+  private final List<Path> unflushedSegments = new ArrayList<>();
+  // versions grow across reloads, so a replay never prefers an entry of an earlier load
+  private final AtomicLong versions = new AtomicLong();
+  // not synchronized: flushes block on JDBC and would pin virtual request threads
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+  // released accounts, by the number of writers holding them, that may not be loaded meanwhile
+  private final Map<UUID, Integer> holds = new HashMap<>();
+  private final ReentrantLock holdLock = new ReentrantLock();
+  private final Condition holdLifted = holdLock.newCondition();
+  private volatile boolean stopped;
+  private volatile Instant lastFlushedAt = Instant.EPOCH;
+  private TransactionTemplate transactionTemplate;
+  private LedgerJournal journal;
+  private ScheduledExecutorService flusher;
+
+  @PostConstruct
+  void start() throws IOException {
+    if (!ledgerProperty.enabled()) {
+      return;
+    }
+
+    // flushed balances must commit even when the caller's transaction rolls back, since the
+    // journal segments covering them are deleted right after
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    Files.createDirectories(ledgerProperty.journalDirectory());
+    journal = new LedgerJournal(ledgerProperty.journalDirectory());
+
+    // balances acknowledged before a crash but never flushed to the table
+    List<Path> leftoverSegments = journal.sealedSegments();
+    if (!leftoverSegments.isEmpty()) {
+      Collection<LedgerEntry> replayed = journal.replay(leftoverSegments);
+      List<FlushedBalance> balances = new ArrayList<>(replayed.size());
+      replayed.forEach(entry -> accountRepository.findById(entry.accountId())
+          .ifPresent(account -> {
+            long delta = entry.balance() - account.getBalance();
+            balances.add(new FlushedBalance(entry.accountId(), entry.balance(), delta,
+                account.getCurrency()));
+          }));
+      write(balances);
+      journal.delete(leftoverSegments);
+      log.info("Replayed {} hot account balances from {} ledger segments",
+          replayed.size(), leftoverSegments.size());
+    }
+
+    journal.start();
+
+    long flushIntervalMillis = ledgerProperty.flushInterval().toMillis();
+    flusher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("ledger-flusher").daemon().factory());
+    flusher.scheduleWithFixedDelay(this::flushQuietly,
+        flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    if (!ledgerProperty.enabled()) {
+      return;
+    }
+
+    flusher.shutdown();
+    flusher.awaitTermination(ledgerProperty.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+    // fenced, so nothing is acknowledged after the last flush
+    stopped = true;
+    flush(removeAll());
+    journal.stop();
+  }
+
+  public boolean manages(UUID id) {
+    return ledgerProperty.enabled() && ledgerProperty.hotAccounts().contains(id);
+  }
+
+  public AccountResponseDto view(UUID id) {
+    HotAccount account = load(id);
+
+    return account.view(account.balance.get().balance());
+  }
+
+  /**
+   * Adds the amount, scaled by the currency the account holds when the change is applied.
+   */
+  public AccountResponseDto apply(UUID id, BigDecimal amount) {
+    return mutate(id, currency -> {
+      long delta = MoneyUtils.toMinorUnits(amount, currency);
+
+      return balance -> MoneyUtils.add(balance, delta);
+    });
+  }
+
+  /**
+   * Writes the accounts back to the table and hands them over to the regular persistence path for
+   * the duration of {@code work}. The write-back commits in a transaction of its own, so callers
+   * open theirs inside {@code work} rather than around this call, which would hold two
+   * connections at once.
+   */
+  public <T> T releaseDuring(Collection<UUID> ids, Supplier<T> work) {
+    List<UUID> hotIds = hotOnly(ids);
+
+    if (hotIds.isEmpty()) {
+      return work.get();
+    }
+
+    hold(hotIds);
+    try {
+      handOver(hotIds);
+
+      return work.get();
+    } finally {
+      unhold(hotIds);
+    }
+  }
+
+  public <T> T releaseAllDuring(Supplier<T> work) {
+    return releaseDuring(ledgerProperty.hotAccounts(), work);
+  }
+
+  public void flush() {
+    if (ledgerProperty.enabled()) {
+      flush(List.of());
+    }
+  }
+
+  /**
+   * Flushes unless the last flush completed after {@code asOf}. Journal entries of a flush are
+   * recorded when it writes, so a later flush adds nothing to the history up to that time.
+   */
+  public void flushIfBehind(Instant asOf) {
+    if (ledgerProperty.enabled() && !asOf.isBefore(lastFlushedAt)) {
+      flush(List.of());
+    }
+  }
+
+  private List<UUID> hotOnly(Collection<UUID> ids) {
+    return ids.stream()
+        .filter(this::manages)
+        .distinct()
+        .toList();
+  }
+
+  private void handOver(Collection<UUID> ids) {
+    List<HotAccount> released = ids.stream()
+        .map(accounts::remove)
+        .filter(account -> account != null)
+        .toList();
+
+    if (released.isEmpty()) {
+      return;
+    }
+
+    try {
+      flush(released);
+    } catch (RuntimeException e) {
+      // still unflushed, and held, so nothing has reloaded them from the table meanwhile
+      released.forEach(account -> accounts.put(account.id, account.reopen()));
+      throw e;
+    }
+  }
+
+  private void flush(Collection<HotAccount> released) {
+    flushLock.lock();
+    try {
+      CompletableFuture<Path> sealed;
+      List<HotAccount> dirtyAccounts = new ArrayList<>();
+      List<HotBalance> dirtyBalances = new ArrayList<>();
+
+      snapshotLock.writeLock().lock();
+      try {
+        released.forEach(HotAccount::fence);
+        sealed = journal.rotate();
+
+        Stream.concat(accounts.values().stream(), released.stream()).forEach(account -> {
+          HotBalance balance = account.balance.get();
+
+          if (balance.version() > account.flushedVersion) {
+            dirtyAccounts.add(account);
+            dirtyBalances.add(balance);
+          }
+        });
+      } finally {
+        snapshotLock.writeLock().unlock();
+      }
+
+      unflushedSegments.add(sealed.join());
+
+      List<FlushedBalance> balances = new ArrayList<>(dirtyAccounts.size());
+      for (int i = 0; i < dirtyAccounts.size(); i++) {
+        HotAccount account = dirtyAccounts.get(i);
+        long balance = dirtyBalances.get(i).balance();
+        balances.add(new FlushedBalance(account.id, balance, balance - account.flushedBalance,
+            account.currency));
+      }
+      write(balances);
+      lastFlushedAt = Instant.now();
+
+      for (int i = 0; i < dirtyAccounts.size(); i++) {
+        dirtyAccounts.get(i).flushedVersion = dirtyBalances.get(i).version();
+        dirtyAccounts.get(i).flushedBalance = dirtyBalances.get(i).balance();
+      }
+
+      // every entry of the sealed segments is now covered by the table
+      journal.delete(unflushedSegments);
+      unflushedSegments.clear();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Ledger flush failed, will retry on next tick", e);
+    }
+  }
+
+  private void write(List<FlushedBalance> balances) {
+    int batchSize = ledgerProperty.flushBatchSize();
+
+    for (int from = 0; from < balances.size(); from += batchSize) {
+      List<FlushedBalance> batch =
+          balances.subList(from, Math.min(balances.size(), from + batchSize));
+
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, batch.stream()
+            .map(balance -> new Object[]{balance.balance(), UuidUtils.toBytes(balance.id())})
+            .toList());
+        balanceJournal.recordAll(batch.stream()
+            .map(balance -> new BalanceJournalEntry(balance.id(),
+                BalanceChangeType.LEDGER_FLUSHED, balance.delta(), balance.currency()))
+            .toList());
+      });
+
+      // the rows were written past Hibernate, so its cached copies and query results are stale
+      batch.forEach(balance -> entityManagerFactory.getCache().evict(Account.class, balance.id()));
+      entityManagerFactory.getCache().unwrap(Cache.class)
+          .evictQueryRegion(AccountRepository.QUERY_CACHE_REGION);
+    }
+  }
+
+  private AccountResponseDto mutate(UUID id, Function<String, LongUnaryOperator> mutationIn) {
+    while (true) {
+      HotAccount account = load(id);
+      LongUnaryOperator mutation = mutationIn.apply(account.currency);
+      HotBalance current;
+      HotBalance next;
+      CompletableFuture<Void> journaled;
+
+      snapshotLock.readLock().lock();
+      try {
+        do {
+          current = account.balance.get();
+          next = current.released()
+              ? null
+              : new HotBalance(versions.incrementAndGet(),
+                  mutation.applyAsLong(current.balance()), false);
+        } while (next != null && !account.balance.compareAndSet(current, next));
+
+        journaled = next == null
+            ? null
+            : journal.append(new LedgerEntry(id, next.version(), next.balance()));
+      } finally {
+        snapshotLock.readLock().unlock();
+      }
+
+      // released under our feet: wait until the account can be loaded again and retry on it
+      if (journaled == null) {
+        continue;
+      }
+
+      journaled.join();
+
+      return account.view(next.balance());
+    }
+  }
+
+  private HotAccount load(UUID id) {
+    while (true) {
+      if (stopped) {
+        throw new IllegalStateException("Balance ledger is stopped");
+      }
+
+      awaitUnheld(id);
+
+      // checked again under the map's lock on the key, which a releasing writer needs to remove it
+      HotAccount account = accounts.computeIfAbsent(id, key -> isHeld(key)
+          ? null
+          : new HotAccount(accountRepository.findById(key)
+              .orElseThrow(AccountNotFoundException::new)));
+
+      if (account != null) {
+        return account;
+      }
+    }
+  }
+
+  private void hold(Collection<UUID> ids) {
+    holdLock.lock();
+    try {
+      ids.forEach(id -> holds.merge(id, 1, Integer::sum));
+    } finally {
+      holdLock.unlock();
+    }
+  }
+
+  private void unhold(Collection<UUID> ids) {
+    holdLock.lock();
+    try {
+      ids.forEach(id -> holds.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1));
+      holdLifted.signalAll();
+    } finally {
+      holdLock.unlock();
+    }
+  }
+
+  private boolean isHeld(UUID id) {
+    holdLock.lock();
+    try {
+      return holds.containsKey(id);
+    } finally {
+      holdLock.unlock();
+    }
+  }
+
+  private void awaitUnheld(UUID id) {
+    holdLock.lock();
+    try {
+      while (holds.containsKey(id)) {
+        holdLifted.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for a released account", e);
+    } finally {
+      holdLock.unlock();
+    }
+  }
+
+  private List<HotAccount> removeAll() {
+    List<HotAccount> removed = new ArrayList<>();
+    Iterator<HotAccount> iterator = accounts.values().iterator();
+
+    while (iterator.hasNext()) {
+      removed.add(iterator.next());
+      iterator.remove();
+    }
+
+    return removed;
+  }
+
+  private record HotBalance(long version, long balance, boolean released) {}
+
+  private record FlushedBalance(UUID id, long balance, long delta, String currency) {}
+
+  private static final class HotAccount {
+
+    private final UUID id;
+    private final Date createdAt;
+    private final AtomicReference<HotBalance> balance;
+    // a currency change goes through the table, after a release, so it is fixed per load
+    private final String currency;
+    private volatile long flushedVersion;
+    private volatile long flushedBalance;
+
+    private HotAccount(Account account) {
+      this.id = account.getId();
+      this.createdAt = account.getCreatedAt();
+      this.currency = account.getCurrency();
+      this.balance = new AtomicReference<>(new HotBalance(0, account.getBalance(), false));
+      this.flushedBalance = account.getBalance();
+    }
+
+    private HotAccount(HotAccount released) {
+      this.id = released.id;
+      this.createdAt = released.createdAt;
+      this.currency = released.currency;
+      HotBalance balance = released.balance.get();
+      this.balance = new AtomicReference<>(
+          new HotBalance(balance.version(), balance.balance(), false));
+      this.flushedVersion = released.flushedVersion;
+      this.flushedBalance = released.flushedBalance;
+    }
+
+    /**
+     * Only under the write side of the snapshot lock, so no compare-and-set is in flight.
+     */
+    private void fence() {
+      HotBalance current = balance.get();
+      balance.set(new HotBalance(current.version(), current.balance(), true));
+    }
+
+    private HotAccount reopen() {
+      return new HotAccount(this);
+    }
+
+    private AccountResponseDto view(long balance) {
+      return new AccountResponseDto(id, balance, currency, createdAt);
+    }
+  }
+}
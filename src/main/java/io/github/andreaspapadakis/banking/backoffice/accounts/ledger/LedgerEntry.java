@@ -0,0 +1,10 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.ledger;
+
+import java.util.UUID;
+
+/**
+ * Absolute balance, in minor units, of a hot account after its {@code version}-th mutation.
+ * Replaying the entry with the highest version per account is idempotent, so a segment may be
+ * replayed twice.
+ */
+record LedgerEntry(UUID accountId, long version, long balance) {}
@@ -0,0 +1,269 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.ledger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-ahead log of the ledger. A single writer thread drains appended entries, writes them to
+ * the active segment and forces it to disk once per drained batch (group commit), then
+ * acknowledges every entry of the batch.
+ */
+@Slf4j
+class LedgerJournal {
+
+  private static final int RECORD_SIZE = 4 * Long.BYTES + Integer.BYTES;
+  private static final int MAX_BATCH = 4096;
+  private static final String SEGMENT_SUFFIX = ".wal2";
+  // segments from before balances were minor units, their records hold a double
+  private static final String LEGACY_SEGMENT_SUFFIX = ".wal";
+
+  private final Path directory;
+  private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_BATCH * RECORD_SIZE);
+  private final CRC32 checksum = new CRC32();
+  private final Thread writer;
+  private volatile boolean running = true;
+  private FileChannel activeChannel;
+  private Path activeSegment;
+  private long segmentSequence;
+
+  LedgerJournal(Path directory) {
+    this.directory = directory;
+    this.writer = Thread.ofPlatform()
+        .name("ledger-journal")
+        .daemon()
+        .unstarted(this::writeLoop);
+  }
+
+  List<Path> sealedSegments() {
+    try (Stream<Path> segments = Files.list(directory)) {
+      List<Path> sorted = segments.sorted().toList();
+
+      if (sorted.stream().anyMatch(path -> path.toString().endsWith(LEGACY_SEGMENT_SUFFIX))) {
+        throw new IllegalStateException("Ledger journal " + directory + " holds segments of the "
+            + "double balance format, drain it with the previous version before upgrading");
+      }
+
+      return sorted.stream()
+          .filter(path -> path.toString().endsWith(SEGMENT_SUFFIX))
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads the given segments and keeps the latest entry per account. Records that were only
+   * partially written before a crash fail their checksum and are skipped.
+   */
+  Collection<LedgerEntry> replay(List<Path> segments) {
+    Map<UUID, LedgerEntry> latest = new HashMap<>();
+    ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+    for (Path segment : segments) {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        while (channel.read(record.clear()) == RECORD_SIZE) {
+          LedgerEntry entry = decode(record.flip());
+
+          if (entry != null) {
+            latest.merge(entry.accountId(), entry,
+                (current, candidate) -> candidate.version() > current.version()
+                    ? candidate
+                    : current);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return latest.values();
+  }
+
+  void start() throws IOException {
+    Files.createDirectories(directory);
+    openSegment();
+    writer.start();
+  }
+
+  /**
+   * Completes once the entry is on disk. Once the journal is stopped the entry is refused right
+   * away rather than left waiting for a writer that is gone.
+   */
+  CompletableFuture<Void> append(LedgerEntry entry) {
+    CompletableFuture<Void> written = new CompletableFuture<>();
+
+    submit(new Append(entry, written));
+
+    return written;
+  }
+
+  /**
+   * Seals the active segment once everything appended so far has been written, and completes
+   * with it.
+   */
+  CompletableFuture<Path> rotate() {
+    CompletableFuture<Path> sealed = new CompletableFuture<>();
+
+    submit(new Rotate(sealed));
+
+    return sealed;
+  }
+
+  void delete(Collection<Path> segments) {
+    for (Path segment : segments) {
+      try {
+        Files.deleteIfExists(segment);
+      } catch (IOException e) {
+        log.warn("Could not delete flushed ledger segment {}", segment, e);
+      }
+    }
+  }
+
+  void stop() {
+    running = false;
+    LockSupport.unpark(writer);
+
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(5));
+      activeChannel.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      log.warn("Could not close ledger segment {}", activeSegment, e);
+    }
+
+    refuseQueued();
+  }
+
+  private void submit(Command command) {
+    commands.offer(command);
+
+    // read after the offer: while it is true the writer drains the command before it exits
+    if (running) {
+      LockSupport.unpark(writer);
+    } else {
+      refuseQueued();
+    }
+  }
+
+  private void refuseQueued() {
+    IllegalStateException stopped = new IllegalStateException("Ledger journal is stopped");
+    Command command;
+
+    while ((command = commands.poll()) != null) {
+      switch (command) {
+        case Append append -> append.written().completeExceptionally(stopped);
+        case Rotate rotate -> rotate.sealed().completeExceptionally(stopped);
+      }
+    }
+  }
+
+  private void writeLoop() {
+    List<CompletableFuture<Void>> batch = new ArrayList<>(MAX_BATCH);
+
+    while (running || !commands.isEmpty()) {
+      Command command = commands.poll();
+
+      if (command == null) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        continue;
+      }
+
+      try {
+        do {
+          if (command instanceof Append append) {
+            encode(append.entry());
+            batch.add(append.written());
+          } else if (command instanceof Rotate rotate) {
+            force(batch);
+            Path sealed = activeSegment;
+            activeChannel.close();
+            openSegment();
+            rotate.sealed().complete(sealed);
+          }
+        } while (batch.size() < MAX_BATCH && (command = commands.poll()) != null);
+
+        force(batch);
+      } catch (IOException | RuntimeException e) {
+        log.error("Ledger journal write failed", e);
+        if (command instanceof Rotate rotate) {
+          rotate.sealed().completeExceptionally(e);
+        }
+        batch.forEach(written -> written.completeExceptionally(e));
+        batch.clear();
+        buffer.clear();
+      }
+    }
+  }
+
+  private void force(List<CompletableFuture<Void>> batch) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      activeChannel.write(buffer);
+    }
+    buffer.clear();
+    activeChannel.force(false);
+
+    batch.forEach(written -> written.complete(null));
+    batch.clear();
+  }
+
+  private void openSegment() throws IOException {
+    activeSegment = directory.resolve(String.format("ledger-%013d-%06d%s",
+        System.currentTimeMillis(), segmentSequence++, SEGMENT_SUFFIX));
+    activeChannel = FileChannel.open(activeSegment,
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+  }
+
+  private void encode(LedgerEntry entry) {
+    int start = buffer.position();
+
+    buffer.putLong(entry.accountId().getMostSignificantBits())
+        .putLong(entry.accountId().getLeastSignificantBits())
+        .putLong(entry.version())
+        .putLong(entry.balance());
+
+    checksum.reset();
+    checksum.update(buffer.slice(start, RECORD_SIZE - Integer.BYTES));
+    buffer.putInt((int) checksum.getValue());
+  }
+
+  private LedgerEntry decode(ByteBuffer record) {
+    checksum.reset();
+    checksum.update(record.slice(0, RECORD_SIZE - Integer.BYTES));
+
+    UUID accountId = new UUID(record.getLong(), record.getLong());
+    long version = record.getLong();
+    long balance = record.getLong();
+
+    return record.getInt() == (int) checksum.getValue()
+        ? new LedgerEntry(accountId, version, balance)
+        : null;
+  }
+
+  private sealed interface Command permits Append, Rotate {}
+
+  private record Append(LedgerEntry entry, CompletableFuture<Void> written) implements Command {}
+
+  private record Rotate(CompletableFuture<Path> sealed) implements Command {}
+}
@@ -1,8 +1,10 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
@@ -13,21 +15,36 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "ACCOUNTS")
+@Table(name = "ACCOUNTS", indexes = {
+    @Index(name = "IDX_ACCOUNTS_CREATED_AT_ID", columnList = "created_at, id"),
+    @Index(name = "IDX_ACCOUNTS_CURRENCY_BALANCE", columnList = "currency, balance"),
+    @Index(name = "IDX_ACCOUNTS_BALANCE", columnList = "balance")
+})
+// only cached when app.second-level-cache.enabled is set
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Account.CACHE_REGION)
 @AllArgsConstructor
 @Getter
 @Setter
 @NoArgsConstructor
 public class Account {
 
+  public static final String CACHE_REGION = "account";
+
   @Id
-  @Column(length = 36)
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(length = 16)
   private UUID id;
 
+  // minor units of the currency, see MoneyUtils
   @Column(nullable = false)
-  private double balance;
+  private long balance;
 
   @Column(length = 3)
   private String currency;
@@ -0,0 +1,81 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.model;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * One balance mutation of an account. Rows are only ever inserted; the balance of an account at
+ * any point in time is the sum of its deltas up to that point.
+ */
+@Entity
+@Immutable
+@Table(name = "BALANCE_JOURNAL", indexes = {
+    @Index(name = "IDX_BALANCE_JOURNAL_ACCOUNT_RECORDED_AT",
+        columnList = "account_id, recorded_at"),
+    @Index(name = "IDX_BALANCE_JOURNAL_RECORDED_AT", columnList = "recorded_at"),
+    @Index(name = "IDX_BALANCE_JOURNAL_ACCOUNT_SNAPSHOT_AT",
+        columnList = "account_id, snapshot_at"),
+    @Index(name = "IDX_BALANCE_JOURNAL_SNAPSHOT_AT", columnList = "snapshot_at")
+})
+@Getter
+@NoArgsConstructor
+public class BalanceJournalEntry {
+
+  // a pooled sequence rather than identity keeps Hibernate's JDBC insert batching
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_journal_seq")
+  @SequenceGenerator(name = "balance_journal_seq", sequenceName = "BALANCE_JOURNAL_SEQ",
+      allocationSize = 100)
+  private Long id;
+
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(length = 16, nullable = false, updatable = false)
+  private UUID accountId;
+
+  @Column(nullable = false, updatable = false)
+  private Instant recordedAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16, nullable = false, updatable = false)
+  private BalanceChangeType type;
+
+  @Column(nullable = false, updatable = false)
+  private long delta;
+
+  @Column(length = 3, updatable = false)
+  private String currency;
+
+  // set by the snapshot that first saw the entry committed, see BalanceJournal#snapshot
+  @Column(insertable = false, updatable = false)
+  private Instant snapshotAt;
+
+  public BalanceJournalEntry(UUID accountId, BalanceChangeType type, long delta,
+                             String currency) {
+    this.accountId = accountId;
+    this.type = type;
+    this.delta = delta;
+    this.currency = currency;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    this.recordedAt = Instant.now();
+  }
+}
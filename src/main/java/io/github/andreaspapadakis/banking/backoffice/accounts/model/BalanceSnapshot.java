@@ -0,0 +1,49 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Balance of an account covering every journal entry recorded up to {@code takenAt}.
+ */
+@Entity
+@Immutable
+@IdClass(BalanceSnapshot.Key.class)
+@Table(name = "BALANCE_SNAPSHOTS")
+@Getter
+@NoArgsConstructor
+public class BalanceSnapshot {
+
+  @Id
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(length = 16)
+  private UUID accountId;
+
+  @Id
+  private Instant takenAt;
+
+  @Column(nullable = false)
+  private long balance;
+
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  public static class Key implements Serializable {
+
+    private UUID accountId;
+    private Instant takenAt;
+  }
+}
@@ -1,9 +1,21 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.repository;
 
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencyTotals;
 import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,9 +23,110 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AccountRepository extends CrudRepository<Account, UUID> {
 
+  String STREAM_FETCH_SIZE = "1000";
+  // results are only cached when app.second-level-cache.enabled is set
+  String QUERY_CACHE_REGION = "account-queries";
+
   @Query("select a from Account a where a.currency = :currency")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
   List<Account> findByCurrency(@Param("currency") String currency);
 
   @Query("select a from Account a where balance < 0")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
   List<Account> findAccountsInDebt();
+
+  @Query("select a.currency from Account a where a.id = :id")
+  Optional<String> findCurrencyById(@Param("id") UUID id);
+
+  /**
+   * Applies only while the account still holds the currency the delta was scaled for.
+   */
+  @Modifying
+  @Query("update Account a set a.balance = a.balance + :delta "
+      + "where a.id = :id and a.currency = :expectedCurrency")
+  int addToBalance(@Param("id") UUID id,
+                   @Param("delta") long delta,
+                   @Param("expectedCurrency") String expectedCurrency);
+
+  /**
+   * Applies only while the account still holds the balance and currency it was read with; minor
+   * units alone match across currencies of the same scale.
+   */
+  @Modifying
+  @Query("update Account a set a.balance = :newBalance, a.currency = :newCurrency "
+      + "where a.id = :id and a.balance = :expectedBalance and a.currency = :expectedCurrency")
+  int updateIfBalance(@Param("id") UUID id,
+                      @Param("expectedBalance") long expectedBalance,
+                      @Param("expectedCurrency") String expectedCurrency,
+                      @Param("newBalance") long newBalance,
+                      @Param("newCurrency") String newCurrency);
+
+  @Modifying
+  @Query("delete from Account a "
+      + "where a.id = :id and a.balance = :expectedBalance and a.currency = :expectedCurrency")
+  int deleteIfBalance(@Param("id") UUID id,
+                      @Param("expectedBalance") long expectedBalance,
+                      @Param("expectedCurrency") String expectedCurrency);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.id = :id")
+  Optional<Account> lockById(@Param("id") UUID id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.balance < 0 order by a.id")
+  List<Account> lockAccountsInDebt(Limit limit);
+
+  @Modifying
+  @Query("update Account a set a.balance = 0 where a.id in :ids and a.balance < 0")
+  int clearDebts(@Param("ids") Collection<UUID> ids);
+
+  @Query("select new io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencyTotals("
+      + "a.currency, count(a), sum(a.balance)) from Account a group by a.currency "
+      + "order by a.currency")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
+  List<CurrencyTotals> sumBalancesByCurrency();
+
+  // H2 answers min()/max() from an index only without a where clause, so the currency filter
+  // would scan all its accounts; ordering by the indexed balance and taking the first row reads
+  // one entry of IDX_ACCOUNTS_CURRENCY_BALANCE from either end on H2 and MySQL alike
+  @Query("select a.balance from Account a where a.currency = :currency "
+      + "order by a.balance asc limit 1")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
+  Long findMinBalance(@Param("currency") String currency);
+
+  @Query("select a.balance from Account a where a.currency = :currency "
+      + "order by a.balance desc limit 1")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
+  Long findMaxBalance(@Param("currency") String currency);
+
+  @Query("select a from Account a order by a.createdAt, a.id")
+  List<Account> findFirstPage(Limit limit);
+
+  @Query("select a from Account a where a.createdAt > :createdAt "
+      + "or (a.createdAt = :createdAt and a.id > :id) order by a.createdAt, a.id")
+  List<Account> findPageAfter(@Param("createdAt") Date createdAt,
+                              @Param("id") UUID id,
+                              Limit limit);
+
+  @Query("select a from Account a order by a.createdAt, a.id")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Account> streamAll();
 }
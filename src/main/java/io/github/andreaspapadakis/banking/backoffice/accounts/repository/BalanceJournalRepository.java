@@ -0,0 +1,44 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.repository;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceJournalEntry;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceSnapshot;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BalanceJournalRepository extends CrudRepository<BalanceJournalEntry, Long> {
+
+  @Query("select e from BalanceJournalEntry e "
+      + "where e.accountId = :accountId and e.recordedAt <= :asOf "
+      + "order by e.recordedAt desc, e.id desc")
+  List<BalanceJournalEntry> findLatest(@Param("accountId") UUID accountId,
+                                       @Param("asOf") Instant asOf,
+                                       Limit limit);
+
+  @Query("select s from BalanceSnapshot s "
+      + "where s.accountId = :accountId and s.takenAt <= :asOf "
+      + "order by s.takenAt desc")
+  List<BalanceSnapshot> findLatestSnapshot(@Param("accountId") UUID accountId,
+                                           @Param("asOf") Instant asOf,
+                                           Limit limit);
+
+  /**
+   * Sums the entries recorded up to {@code asOf} that no snapshot taken up to
+   * {@code snapshotTakenAt} claimed.
+   */
+  @Query("select coalesce(sum(e.delta), 0L) from BalanceJournalEntry e "
+      + "where e.accountId = :accountId and e.recordedAt <= :asOf "
+      + "and (e.snapshotAt is null or e.snapshotAt > :snapshotTakenAt)")
+  long sumUnclaimedDeltas(@Param("accountId") UUID accountId,
+                          @Param("snapshotTakenAt") Instant snapshotTakenAt,
+                          @Param("asOf") Instant asOf);
+
+  @Query("select max(s.takenAt) from BalanceSnapshot s")
+  Instant findLastSnapshotTime();
+}
@@ -0,0 +1,62 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.AccountCacheProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.TransactionUtils;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of single accounts. Writers invalidate their keys once their transaction
+ * commits; Caffeine makes an invalidation wait for an in-flight load of the same key, so a load
+ * that read the row before the commit can never outlive the invalidation.
+ */
+@Component
+public class AccountCache {
+
+  private final Cache<UUID, AccountResponseDto> cache;
+
+  public AccountCache(AccountCacheProperty accountCacheProperty) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(accountCacheProperty.maximumSize())
+        .expireAfterWrite(accountCacheProperty.expireAfterWrite())
+        .recordStats()
+        .build();
+  }
+
+  public AccountResponseDto get(UUID id, Function<UUID, AccountResponseDto> loader) {
+    return cache.get(id, loader);
+  }
+
+  /**
+   * The cached view, without loading it on a miss.
+   */
+  public AccountResponseDto getIfPresent(UUID id) {
+    return cache.getIfPresent(id);
+  }
+
+  public void invalidate(UUID id) {
+    TransactionUtils.afterCommit(() -> cache.invalidate(id));
+  }
+
+  public void invalidate(Collection<UUID> ids) {
+    TransactionUtils.afterCommit(() -> cache.invalidateAll(ids));
+  }
+
+  public void invalidateAll() {
+    TransactionUtils.afterCommit(cache::invalidateAll);
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+}
@@ -1,13 +1,20 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.service;
 
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountPageResponse;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencySummaryDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.DebtClearingSummary;
 import jakarta.validation.constraints.NotNull;
-import java.io.IOException;
-import java.net.URISyntaxException;
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.validation.annotation.Validated;
 
 @Validated
@@ -17,26 +24,47 @@ public interface AccountService {
   AccountResponseDto save(AccountCreateRequest accountRequestDto);
 
   @NotNull
-  List<AccountResponseDto> getAll();
+  List<AccountBatchItemResult> saveAll(List<AccountCreateRequest> accountCreateRequests);
+
+  void saveAll(Iterator<AccountCreateRequest> accountCreateRequests,
+               Consumer<AccountBatchItemResult> resultConsumer);
+
+  @NotNull
+  AccountPageResponse getAll(String cursor, Integer size);
+
+  void streamAll(Consumer<AccountResponseDto> consumer);
 
   @NotNull
   AccountResponseDto getAccountById(UUID id);
 
+  @NotNull
+  BalanceAsOfDto getBalanceAsOf(UUID id, Instant asOf);
+
   @NotNull
   List<AccountResponseDto> getAccountsByCurrency(String currency);
 
+  @NotNull
+  List<CurrencySummaryDto> getCurrencySummaries();
+
   @NotNull
   AccountResponseDto update(UUID id, AccountUpdateRequest accountUpdateRequest);
 
   @NotNull
-  void deleteById(UUID id);
+  AccountResponseDto credit(UUID id, BalanceChangeRequest balanceChangeRequest);
 
   @NotNull
+  AccountResponseDto debit(UUID id, BalanceChangeRequest balanceChangeRequest);
+
+  void deleteById(UUID id);
+
   void deleteAll();
 
   @NotNull
   List<AccountResponseDto> clearDebts();
 
   @NotNull
-  Object russianRoulette(UUID loggedInId) throws IOException, URISyntaxException;
+  DebtClearingSummary clearDebtsInBulk(Consumer<List<UUID>> clearedChunkConsumer);
+
+  @NotNull
+  Object russianRoulette(UUID loggedInId);
 }
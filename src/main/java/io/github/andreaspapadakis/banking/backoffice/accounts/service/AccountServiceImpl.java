@@ -1,67 +1,252 @@
 package io.github.andreaspapadakis.banking.backoffice.accounts.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountBatchItemResult;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCursor;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountPageResponse;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
 import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencySummaryDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.DebtClearingSummary;
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.AccountNotFoundException;
 import io.github.andreaspapadakis.banking.backoffice.accounts.exception.RussianRouletteException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.id.AccountIdGenerator;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceChangeType;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceJournal;
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
 import io.github.andreaspapadakis.banking.backoffice.accounts.mapper.AccountMapper;
 import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceJournalEntry;
 import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
-import io.github.andreaspapadakis.banking.backoffice.shared.config.RandomNumberGeneratorProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.AccountProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorMessages;
+import io.github.andreaspapadakis.banking.backoffice.shared.random.RandomSource;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.RetryUtils;
 import io.github.andreaspapadakis.banking.backoffice.shared.utils.StringUtils;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
+@Timed(value = "accounts.service", histogram = true)
 @RequiredArgsConstructor
+@Slf4j
 public class AccountServiceImpl implements AccountService {
 
   private final AccountMapper accountMapper;
   private final AccountRepository accountRepository;
-  private final RandomNumberGeneratorProperty randomNumberGeneratorProperty;
+  private final RandomSource randomSource;
+  private final AccountProperty accountProperty;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final BalanceLedger balanceLedger;
+  private final Validator validator;
+  private final AccountIdGenerator accountIdGenerator;
+  private final AccountCache accountCache;
+  private final BalanceJournal balanceJournal;
+  private final ErrorMessages errorMessages;
 
   @Override
   public AccountResponseDto save(AccountCreateRequest accountRequestDto) {
+    Account account = newAccount(accountRequestDto);
+
+    // persist rather than repository.save(): an assigned id would make save() merge,
+    // which costs a SELECT before every INSERT
+    entityManager.persist(account);
+    balanceJournal.record(account.getId(), BalanceChangeType.OPENED, account.getBalance(),
+        account.getCurrency());
+
+    return accountMapper.mapAllData(account);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<AccountBatchItemResult> saveAll(List<AccountCreateRequest> accountCreateRequests) {
+    List<AccountBatchItemResult> results = new ArrayList<>(accountCreateRequests.size());
+
+    saveAll(accountCreateRequests.iterator(), results::add);
+
+    return results;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void saveAll(Iterator<AccountCreateRequest> accountCreateRequests,
+                      Consumer<AccountBatchItemResult> resultConsumer) {
+    int batchSize = accountProperty.batchInsertSize();
+    List<Integer> indexes = new ArrayList<>(batchSize);
+    List<Account> accounts = new ArrayList<>(batchSize);
+    int index = 0;
+
+    while (accountCreateRequests.hasNext()) {
+      AccountCreateRequest accountCreateRequest = accountCreateRequests.next();
+      Set<ConstraintViolation<AccountCreateRequest>> violations =
+          validator.validate(accountCreateRequest);
+
+      if (violations.isEmpty()) {
+        indexes.add(index);
+        accounts.add(newAccount(accountCreateRequest));
+      } else {
+        resultConsumer.accept(AccountBatchItemResult.failed(index, violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining(", "))));
+      }
+
+      if (accounts.size() == batchSize) {
+        insertBatch(indexes, accounts, resultConsumer);
+        indexes.clear();
+        accounts.clear();
+      }
+
+      index++;
+    }
+
+    if (!accounts.isEmpty()) {
+      insertBatch(indexes, accounts, resultConsumer);
+    }
+  }
+
+  private void insertBatch(List<Integer> indexes,
+                           List<Account> accounts,
+                           Consumer<AccountBatchItemResult> resultConsumer) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> persistAll(accounts));
+
+      for (int i = 0; i < accounts.size(); i++) {
+        resultConsumer.accept(AccountBatchItemResult.created(indexes.get(i),
+            accountMapper.mapAllData(accounts.get(i))));
+      }
+    } catch (DataAccessException | PersistenceException e) {
+      // the JDBC batch failed as a whole, retry row by row to pin the error on its item
+      for (int i = 0; i < accounts.size(); i++) {
+        Account account = accounts.get(i);
+
+        try {
+          transactionTemplate.executeWithoutResult(status -> persistAll(List.of(account)));
+          resultConsumer.accept(AccountBatchItemResult.created(indexes.get(i),
+              accountMapper.mapAllData(account)));
+        } catch (DataAccessException | PersistenceException itemException) {
+          // the driver message names tables and constraints, only the log gets to see it
+          log.warn("Account {} of the batch could not be inserted", indexes.get(i), itemException);
+          resultConsumer.accept(AccountBatchItemResult.failed(indexes.get(i),
+              errorMessages.get(ErrorCode.ITEM_FAILED)));
+        }
+      }
+    }
+  }
+
+  private void persistAll(List<Account> accounts) {
+    accounts.forEach(account -> {
+      entityManager.persist(account);
+      balanceJournal.record(account.getId(), BalanceChangeType.OPENED, account.getBalance(),
+          account.getCurrency());
+    });
+    // one JDBC batch per chunk, then drop the managed copies so the context never grows
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private Account newAccount(AccountCreateRequest accountCreateRequest) {
     Account account = new Account();
 
-    account.setId(UUID.randomUUID());
-    account.setBalance(0.0d);
-    account.setCurrency(accountRequestDto.currency());
+    account.setId(accountIdGenerator.nextId());
+    account.setBalance(0L);
+    account.setCurrency(accountCreateRequest.currency());
 
-    return accountMapper.mapAllData(accountRepository.save(account));
+    return account;
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<AccountResponseDto> getAll() {
-    List<AccountResponseDto> accountResponseDtos = new ArrayList<>();
+  public AccountPageResponse getAll(String cursor, Integer size) {
+    int pageSize = size == null
+        ? accountProperty.defaultPageSize()
+        : Math.min(size, accountProperty.maxPageSize());
+    // one extra row tells whether another page follows without a count query
+    Limit limit = Limit.of(pageSize + 1);
+    List<Account> accounts;
+
+    if (cursor == null) {
+      accounts = accountRepository.findFirstPage(limit);
+    } else {
+      AccountCursor position = AccountCursor.decode(cursor);
+      accounts = accountRepository.findPageAfter(position.createdAt(), position.id(), limit);
+    }
 
-    accountRepository.findAll()
-        .forEach(account -> accountResponseDtos.add(accountMapper.mapAllData(account)));
+    String nextCursor = null;
 
-    return accountResponseDtos;
+    if (accounts.size() > pageSize) {
+      accounts = accounts.subList(0, pageSize);
+      nextCursor = AccountCursor.of(accounts.getLast()).encode();
+    }
+
+    return new AccountPageResponse(accounts.stream()
+        .map(accountMapper::mapAllData)
+        .collect(Collectors.toList()),
+        nextCursor);
   }
 
   @Override
   @Transactional(readOnly = true)
+  public void streamAll(Consumer<AccountResponseDto> consumer) {
+    try (Stream<Account> accounts = accountRepository.streamAll()) {
+      accounts.forEach(account -> {
+        consumer.accept(accountMapper.mapAllData(account));
+        // keep the persistence context from growing with the result set
+        entityManager.detach(account);
+      });
+    }
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public AccountResponseDto getAccountById(UUID id) {
-    return accountMapper.mapAllData(accountRepository.findById(id).orElseThrow());
+    if (balanceLedger.manages(id)) {
+      return balanceLedger.view(id);
+    }
+
+    // no surrounding transaction, so a cache hit never borrows a JDBC connection
+    return accountCache.get(id,
+        key -> accountMapper.mapAllData(accountRepository.findById(key)
+            .orElseThrow(AccountNotFoundException::new)));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public BalanceAsOfDto getBalanceAsOf(UUID id, Instant asOf) {
+    // a hot account's history reaches only as far as the ledger's last flush; the flush writes in
+    // a transaction of its own, so it runs before the reads rather than nested in theirs
+    if (balanceLedger.manages(id)) {
+      balanceLedger.flushIfBehind(asOf);
+    }
+
+    return balanceJournal.balanceAsOf(id, asOf).orElseThrow(AccountNotFoundException::new);
   }
 
   @Override
@@ -70,7 +255,7 @@ public class AccountServiceImpl implements AccountService {
     List<Account> accountsByCurrency = accountRepository.findByCurrency(currency);
 
     if (accountsByCurrency.isEmpty()) {
-      throw new NoSuchElementException("There are no accounts with provided currency");
+      throw new AccountNotFoundException(ErrorCode.NO_ACCOUNTS_WITH_CURRENCY);
     }
 
     return accountsByCurrency.stream()
@@ -79,47 +264,168 @@ public class AccountServiceImpl implements AccountService {
   }
 
   @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public List<CurrencySummaryDto> getCurrencySummaries() {
+    // hot account balances may still sit in the ledger; flushed before the reads, since the flush
+    // commits in a transaction of its own
+    balanceLedger.flush();
+
+    // the same GROUP BY over the (currency, balance) index that the FX exposure sums, so both
+    // agree and every replica reads the table rather than a count of its own writes
+    return accountRepository.sumBalancesByCurrency().stream()
+        .filter(totals -> totals.currency() != null)
+        .map(totals -> new CurrencySummaryDto(totals.currency(),
+            totals.count(),
+            MoneyUtils.toDecimal(totals.sum(), totals.currency()),
+            toDecimal(accountRepository.findMinBalance(totals.currency()), totals.currency()),
+            toDecimal(accountRepository.findMaxBalance(totals.currency()), totals.currency())))
+        .toList();
+  }
+
+  private static BigDecimal toDecimal(Long minorUnits, String currency) {
+    return minorUnits == null ? null : MoneyUtils.toDecimal(minorUnits, currency);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public AccountResponseDto update(UUID id, AccountUpdateRequest accountUpdateRequest) {
-    Account account = accountRepository.findById(id).orElseThrow();
-    Double newBalance = accountUpdateRequest.balance();
+    // a hot account is written back before the transaction opens and left to it, so the journal
+    // sees the change once, as the adjustment below
+    return balanceLedger.releaseDuring(List.of(id),
+        () -> transactionTemplate.execute(status -> updateAccount(id, accountUpdateRequest)));
+  }
+
+  private AccountResponseDto updateAccount(UUID id, AccountUpdateRequest accountUpdateRequest) {
+    Account account = accountRepository.findById(id)
+        .orElseThrow(AccountNotFoundException::new);
+    long oldBalance = account.getBalance();
+    String oldCurrency = account.getCurrency();
     String newCurrency = accountUpdateRequest.currency();
 
-    if (newBalance != null && !newBalance.equals(account.getBalance())) {
-      account.setBalance(accountUpdateRequest.balance());
+    if (!StringUtils.isNullOrBlank(newCurrency) && !newCurrency.equals(account.getCurrency())) {
+      account.setCurrency(newCurrency);
+    }
+
+    if (accountUpdateRequest.balance() != null) {
+      account.setBalance(MoneyUtils.toMinorUnits(accountUpdateRequest.balance(),
+          account.getCurrency()));
+    } else if (!oldCurrency.equals(account.getCurrency())) {
+      // a balance the new currency cannot hold is rejected, never rounded away
+      account.setBalance(MoneyUtils.rescaleExact(oldBalance, oldCurrency, newCurrency));
     }
 
-    if (!StringUtils.isNullOrBlank(newCurrency) && !newCurrency.equals(account.getCurrency())) {
-      account.setCurrency(accountUpdateRequest.currency());
+    accountCache.invalidate(id);
+
+    if (account.getBalance() != oldBalance || !oldCurrency.equals(account.getCurrency())) {
+      balanceJournal.record(id, BalanceChangeType.ADJUSTED, account.getBalance() - oldBalance,
+          account.getCurrency());
     }
 
     return accountMapper.mapAllData(accountRepository.save(account));
   }
 
   @Override
-  public void deleteById(UUID id) {
-    if (!accountRepository.existsById(id)) {
-      throw new NoSuchElementException("There is no account with provided ID");
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public AccountResponseDto credit(UUID id, BalanceChangeRequest balanceChangeRequest) {
+    return applyBalanceDelta(id, balanceChangeRequest.amount());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public AccountResponseDto debit(UUID id, BalanceChangeRequest balanceChangeRequest) {
+    return applyBalanceDelta(id, balanceChangeRequest.amount().negate());
+  }
+
+  private AccountResponseDto applyBalanceDelta(UUID id, BigDecimal amount) {
+    if (balanceLedger.manages(id)) {
+      return balanceLedger.apply(id, amount);
     }
 
-    accountRepository.deleteById(id);
+    // the amount is scaled by the currency of the account; a cached view supplies it without a
+    // read, and the update applies only while the row still holds that currency
+    AccountResponseDto cached = accountCache.getIfPresent(id);
+    String cachedCurrency = cached == null ? null : cached.currency();
+
+    // a single relative UPDATE instead of read-modify-write, retried only on lock contention
+    return RetryUtils.withBackoff(() -> transactionTemplate.execute(status -> {
+      String currency = cachedCurrency == null ? currencyOf(id) : cachedCurrency;
+      long delta = MoneyUtils.toMinorUnits(amount, currency);
+
+      while (accountRepository.addToBalance(id, delta, currency) == 0) {
+        // deleted, or moved to another currency since it was cached
+        currency = currencyOf(id);
+        delta = MoneyUtils.toMinorUnits(amount, currency);
+      }
+
+      // the one read for the response, of the row the update has locked; a locking query goes to
+      // the table, where findById could answer from a second-level cache entry the bulk update
+      // only invalidates at commit
+      Account account = accountRepository.lockById(id)
+          .orElseThrow(AccountNotFoundException::new);
+      balanceJournal.record(id, delta >= 0 ? BalanceChangeType.CREDITED : BalanceChangeType.DEBITED,
+          delta, currency);
+      accountCache.invalidate(id);
+
+      return accountMapper.mapAllData(account);
+    }),
+        TransientDataAccessException.class,
+        accountProperty.balanceUpdateMaxAttempts(),
+        accountProperty.balanceUpdateInitialBackoff());
+  }
+
+  private String currencyOf(UUID id) {
+    return accountRepository.findCurrencyById(id).orElseThrow(AccountNotFoundException::new);
   }
 
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void deleteById(UUID id) {
+    balanceLedger.releaseDuring(List.of(id), () -> transactionTemplate.execute(status -> {
+      Account account = accountRepository.findById(id)
+          .orElseThrow(AccountNotFoundException::new);
+
+      accountRepository.delete(account);
+      balanceJournal.record(id, BalanceChangeType.CLOSED, -account.getBalance(),
+          account.getCurrency());
+      accountCache.invalidate(id);
+
+      return null;
+    }));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void deleteAll() {
-    accountRepository.deleteAll();
+    // hot balances are written back first, the closing entries are taken from the table
+    balanceLedger.releaseAllDuring(() -> transactionTemplate.execute(status -> {
+      balanceJournal.recordAllClosed();
+      accountRepository.deleteAll();
+      accountCache.invalidateAll();
+
+      return null;
+    }));
   }
 
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<AccountResponseDto> clearDebts() {
+    return balanceLedger.releaseAllDuring(
+        () -> transactionTemplate.execute(status -> clearAllDebts()));
+  }
+
+  private List<AccountResponseDto> clearAllDebts() {
     List<Account> accountsWithDebts = accountRepository.findAccountsInDebt();
 
     if (accountsWithDebts.isEmpty()) {
-      throw new NoSuchElementException("There are no accounts in debt");
+      throw new AccountNotFoundException(ErrorCode.NO_ACCOUNTS_IN_DEBT);
     }
 
     accountsWithDebts.forEach(account -> {
-      account.setBalance(0.0);
+      balanceJournal.record(account.getId(), BalanceChangeType.DEBT_CLEARED,
+          -account.getBalance(), account.getCurrency());
+      account.setBalance(0L);
       accountRepository.save(account);
+      accountCache.invalidate(account.getId());
     });
 
     return accountsWithDebts.stream()
@@ -128,73 +434,114 @@ public class AccountServiceImpl implements AccountService {
   }
 
   @Override
-  public Object russianRoulette(UUID loggedInId) throws IOException, URISyntaxException {
-    Account loggedInAccount = accountRepository.findById(loggedInId).orElseThrow();
-
-    if (loggedInAccount.getBalance() < 100000) {
-      throw new RussianRouletteException("You are too weak to play russian roulette....");
-    }
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public DebtClearingSummary clearDebtsInBulk(Consumer<List<UUID>> clearedChunkConsumer) {
+    // the chunks commit on their own, so hot accounts stay with the table until the last one did
+    return balanceLedger.releaseAllDuring(() -> clearDebtsInChunks(clearedChunkConsumer));
+  }
 
-    int randomPick = getRandomInt(0, 5);
-    int bonusOrDeathPick = getRandomInt(0, 20);
+  private DebtClearingSummary clearDebtsInChunks(Consumer<List<UUID>> clearedChunkConsumer) {
+    long clearedAccounts = 0;
+    int chunks = 0;
+    List<UUID> clearedIds;
 
-    if (randomPick == 0) { // 1/6 probability to pass out; hehe
-      if (bonusOrDeathPick <= 3) { // 3% probability to die; hehehehehe
-        accountRepository.deleteById(loggedInId);
+    // every chunk commits on its own so row locks are held only for one chunk at a time
+    do {
+      clearedIds = transactionTemplate.execute(status -> clearDebtsChunk());
 
-        return "RIP";
+      if (clearedIds != null && !clearedIds.isEmpty()) {
+        clearedAccounts += clearedIds.size();
+        chunks++;
+        clearedChunkConsumer.accept(clearedIds);
       }
+    } while (clearedIds != null && !clearedIds.isEmpty());
 
-      loggedInAccount.setBalance(0d);
-
-      return accountMapper.mapAllData(accountRepository.save(loggedInAccount));
-    } else if (bonusOrDeathPick < 2) {
-      if (randomPick == 5) { // 1.5% probability to live happily :(
-        loggedInAccount.setBalance(loggedInAccount.getBalance() * 1.5);
-      } else { // 5% probability you are still shocked
-        loggedInAccount.setBalance(loggedInAccount.getBalance() / 5.0);
-        loggedInAccount.setCurrency("RMB"); // 1 euro == 0,13 RMB (chinese currency) ;)
-      }
+    return new DebtClearingSummary(clearedAccounts, chunks);
+  }
 
-      return accountMapper.mapAllData(accountRepository.save(loggedInAccount));
+  private List<UUID> clearDebtsChunk() {
+    List<Account> accounts = accountRepository
+        .lockAccountsInDebt(Limit.of(accountProperty.debtClearingChunkSize()));
+    List<UUID> ids = accounts.stream()
+        .map(Account::getId)
+        .toList();
+
+    if (!ids.isEmpty()) {
+      accountRepository.clearDebts(ids);
+      balanceJournal.recordAll(accounts.stream()
+          .map(account -> new BalanceJournalEntry(account.getId(),
+              BalanceChangeType.DEBT_CLEARED, -account.getBalance(), account.getCurrency()))
+          .toList());
+      accountCache.invalidate(ids);
     }
 
-    return null;
+    return ids;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Object russianRoulette(UUID loggedInId) {
+    // the guarded writes below commit on their own, so the account stays with the table until then
+    return balanceLedger.releaseDuring(List.of(loggedInId), () -> playRoulette(loggedInId));
   }
 
-  private int getRandomInt(int min, int max) throws IOException, URISyntaxException {
-    URL url = (new URI(randomNumberGeneratorProperty.apiUrl())).toURL();
+  private Object playRoulette(UUID loggedInId) {
+    Account loggedInAccount = accountRepository.findById(loggedInId)
+        .orElseThrow(AccountNotFoundException::new);
+    long oldBalance = loggedInAccount.getBalance();
+    String oldCurrency = loggedInAccount.getCurrency();
 
-    final String jsonRequest =
-        "{\"jsonrpc\":\"2.0\",\"method\":\"generateIntegers\",\"params\":{\"apiKey\":\""
-            + randomNumberGeneratorProperty.apiKey() + "\",\"n\":1,\"min\":" + min + ",\"max\":"
-            + max + ",\"replacement\":true},\"id\":1}";
+    if (oldBalance < MoneyUtils.majorToMinorUnits(100000, oldCurrency)) {
+      throw new RussianRouletteException(ErrorCode.TOO_WEAK_FOR_ROULETTE);
+    }
 
-    HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-    conn.setRequestMethod("POST");
-    conn.setRequestProperty("Content-Type", "application/json");
-    conn.setDoOutput(true);
-    conn.getOutputStream().write(jsonRequest.getBytes());
+    // drawn before any transaction is open, so a slow random source never holds a connection
+    int randomPick = randomSource.nextInt(0, 5);
+    int bonusOrDeathPick = randomSource.nextInt(0, 20);
 
-    // Read the response
-    BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-    String inputLine;
-    StringBuilder response = new StringBuilder();
+    if (randomPick == 0) { // 1/6 probability to pass out; hehe
+      if (bonusOrDeathPick <= 3) { // 3% probability to die; hehehehehe
+        transactionTemplate.executeWithoutResult(status -> {
+          if (accountRepository.deleteIfBalance(loggedInId, oldBalance, oldCurrency) == 0) {
+            throw balanceChangedDuringRoulette();
+          }
+          balanceJournal.record(loggedInId, BalanceChangeType.CLOSED, -oldBalance, oldCurrency);
+          accountCache.invalidate(loggedInId);
+        });
 
-    while ((inputLine = in.readLine()) != null) {
-      response.append(inputLine);
+        return "RIP";
+      }
+
+      loggedInAccount.setBalance(0L);
+    } else if (bonusOrDeathPick < 2) {
+      if (randomPick == 5) { // 1.5% probability to live happily :(
+        loggedInAccount.setBalance(MoneyUtils.multiply(oldBalance, 3, 2));
+      } else { // 5% probability you are still shocked
+        // 1 euro == 0,13 RMB (chinese currency, ISO code CNY) ;)
+        loggedInAccount.setBalance(MoneyUtils.rescale(MoneyUtils.multiply(oldBalance, 1, 5),
+            oldCurrency, "CNY"));
+        loggedInAccount.setCurrency("CNY");
+      }
+    } else {
+      return null;
     }
-    in.close();
 
-    // Parse the JSON response
-    ObjectMapper objectMapper = new ObjectMapper();
-    JsonNode responseJson = objectMapper.readTree(response.toString());
+    // the balance and currency read above guard the write, a concurrent change voids the round
+    transactionTemplate.executeWithoutResult(status -> {
+      if (accountRepository.updateIfBalance(loggedInId, oldBalance, oldCurrency,
+          loggedInAccount.getBalance(), loggedInAccount.getCurrency()) == 0) {
+        throw balanceChangedDuringRoulette();
+      }
+      balanceJournal.record(loggedInId, BalanceChangeType.ROULETTE,
+          loggedInAccount.getBalance() - oldBalance, loggedInAccount.getCurrency());
+      accountCache.invalidate(loggedInId);
+    });
 
-    // Extract the random data
-    JsonNode randomData = responseJson.path("result").path("random").path("data");
+    return accountMapper.mapAllData(loggedInAccount);
+  }
 
-    // Output the random number(s)
-    return randomData.get(0).asInt();
+  private RussianRouletteException balanceChangedDuringRoulette() {
+    return new RussianRouletteException(ErrorCode.BALANCE_CHANGED_DURING_ROULETTE);
   }
 
 }
\ No newline at end of file
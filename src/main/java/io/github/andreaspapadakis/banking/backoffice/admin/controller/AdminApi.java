@@ -0,0 +1,14 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.CacheStatsDto;
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.QueryStatsDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+public interface AdminApi {
+
+  ResponseEntity<CacheStatsDto> getAccountCacheStats();
+
+  ResponseEntity<QueryStatsDto> getQueryStats();
+}
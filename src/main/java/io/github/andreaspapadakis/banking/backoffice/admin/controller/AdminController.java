@@ -0,0 +1,61 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountCache;
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.CacheStatsDto;
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.QueryBudgetViolationDto;
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.QueryStatsDto;
+import io.github.andreaspapadakis.banking.backoffice.admin.dto.SlowStatementDto;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.QueryBudgetProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.persistence.QueryStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController implements AdminApi {
+  private final AccountCache accountCache;
+  private final QueryStatistics queryStatistics;
+  private final QueryBudgetProperty queryBudgetProperty;
+
+  @Override
+  @GetMapping(value = "/caches/accounts")
+  public ResponseEntity<CacheStatsDto> getAccountCacheStats() {
+    CacheStats stats = accountCache.stats();
+    CacheStatsDto responseBody = new CacheStatsDto(accountCache.size(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount(),
+        stats.loadFailureCount());
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  @Override
+  @GetMapping(value = "/queries")
+  public ResponseEntity<QueryStatsDto> getQueryStats() {
+    QueryStatsDto responseBody = new QueryStatsDto(queryBudgetProperty.maxStatements(),
+        queryBudgetProperty.maxJdbcTime().toMillis(),
+        queryStatistics.requestsOverBudget(),
+        queryStatistics.slowestStatements().stream()
+            .map(statement -> new SlowStatementDto(statement.statement(),
+                statement.elapsedMillis(),
+                statement.observedAt()))
+            .toList(),
+        queryStatistics.recentViolations().stream()
+            .map(violation -> new QueryBudgetViolationDto(violation.observedAt(),
+                violation.method(),
+                violation.route(),
+                violation.statements(),
+                violation.jdbcTimeMillis()))
+            .toList());
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+}
@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.dto;
+
+public record CacheStatsDto(long size,
+                            long hitCount,
+                            long missCount,
+                            double hitRate,
+                            long evictionCount,
+                            long loadFailureCount) {}
@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.dto;
+
+import java.time.Instant;
+
+public record QueryBudgetViolationDto(Instant observedAt,
+                                      String method,
+                                      String route,
+                                      int statements,
+                                      long jdbcTimeMillis) {}
@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.dto;
+
+import java.util.List;
+
+public record QueryStatsDto(int maxStatements,
+                            long maxJdbcTimeMillis,
+                            long requestsOverBudget,
+                            List<SlowStatementDto> slowestStatements,
+                            List<QueryBudgetViolationDto> recentViolations) {}
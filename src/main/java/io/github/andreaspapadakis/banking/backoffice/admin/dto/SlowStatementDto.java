@@ -0,0 +1,5 @@
+package io.github.andreaspapadakis.banking.backoffice.admin.dto;
+
+import java.time.Instant;
+
+public record SlowStatementDto(String statement, long elapsedMillis, Instant observedAt) {}
@@ -0,0 +1,20 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.ExposureDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.FxRatesDto;
+import io.github.andreaspapadakis.banking.backoffice.shared.validation.AllowedCurrency;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+public interface FxApi {
+
+  ResponseEntity<FxRatesDto> getRates();
+
+  ResponseEntity<FxRatesDto> reloadRates();
+
+  ResponseEntity<ExposureDto> getExposure(@NotBlank(message = "{currencyBlankErrorMessage}")
+                                          @AllowedCurrency
+                                          String currency);
+}
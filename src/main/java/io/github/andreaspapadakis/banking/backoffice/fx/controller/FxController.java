@@ -0,0 +1,44 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.ExposureDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.FxRatesDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.service.FxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fx")
+@RequiredArgsConstructor
+public class FxController implements FxApi {
+  private final FxService fxService;
+
+  @Override
+  @GetMapping(value = "/rates")
+  public ResponseEntity<FxRatesDto> getRates() {
+    FxRatesDto responseBody = fxService.getRates();
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  @Override
+  @PostMapping(value = "/rates/reload")
+  public ResponseEntity<FxRatesDto> reloadRates() {
+    FxRatesDto responseBody = fxService.reloadRates();
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  @Override
+  @GetMapping(value = "/exposure")
+  public ResponseEntity<ExposureDto> getExposure(@RequestParam String currency) {
+    ExposureDto responseBody = fxService.getExposure(currency);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+}
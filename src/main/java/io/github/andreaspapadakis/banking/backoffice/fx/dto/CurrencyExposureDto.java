@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencyExposureDto(String currency,
+                                  long count,
+                                  BigDecimal sum,
+                                  BigDecimal converted) {}
@@ -0,0 +1,15 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Total of all balances in {@code currency}. Balances held in currencies without a rate are
+ * listed in {@code unconvertedCurrencies} and left out of {@code total}.
+ */
+public record ExposureDto(String currency,
+                          Instant ratesAsOf,
+                          BigDecimal total,
+                          List<CurrencyExposureDto> currencies,
+                          List<String> unconvertedCurrencies) {}
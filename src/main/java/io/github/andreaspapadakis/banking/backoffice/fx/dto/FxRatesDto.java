@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.SortedMap;
+
+public record FxRatesDto(String base,
+                         Instant asOf,
+                         SortedMap<String, BigDecimal> rates) {}
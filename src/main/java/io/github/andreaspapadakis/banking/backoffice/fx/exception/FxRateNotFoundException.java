@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class FxRateNotFoundException extends DomainException {
+
+  public FxRateNotFoundException() {
+    super(ErrorCode.FX_RATE_NOT_FOUND);
+  }
+}
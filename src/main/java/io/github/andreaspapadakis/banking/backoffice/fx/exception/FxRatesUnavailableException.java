@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class FxRatesUnavailableException extends DomainException {
+
+  public FxRatesUnavailableException() {
+    super(ErrorCode.FX_RATES_UNAVAILABLE);
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.rates;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.FxProperty;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads {@code app.fx.rates-location}, a properties file with a {@code base} entry and one
+ * {@code CODE=rate} entry per currency, the base itself included at 1.
+ */
+@Component
+@ConditionalOnProperty(name = "app.fx.provider", havingValue = "file", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FileFxRateProvider implements FxRateProvider {
+
+  private static final String BASE_KEY = "base";
+
+  private final FxProperty fxProperty;
+
+  @Override
+  public FxRates fetch() throws IOException {
+    Properties properties = new Properties();
+
+    try (InputStream inputStream = fxProperty.ratesLocation().getInputStream()) {
+      properties.load(inputStream);
+    }
+
+    String base = properties.getProperty(BASE_KEY);
+    if (base == null) {
+      throw new IOException("FX rate file has no base currency: " + fxProperty.ratesLocation());
+    }
+
+    Map<String, BigDecimal> rates = new HashMap<>();
+    for (String currency : properties.stringPropertyNames()) {
+      if (!currency.equals(BASE_KEY)) {
+        rates.put(currency, new BigDecimal(properties.getProperty(currency).trim()));
+      }
+    }
+
+    return new FxRates(base, rates, Instant.now());
+  }
+}
@@ -0,0 +1,13 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.rates;
+
+import java.io.IOException;
+
+/**
+ * Source of complete rate tables. The bundled provider reads a file; another source is plugged in
+ * by registering a bean of this type and setting {@code app.fx.provider} to anything but
+ * {@code file}.
+ */
+public interface FxRateProvider {
+
+  FxRates fetch() throws IOException;
+}
@@ -0,0 +1,66 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.rates;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.FxProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current FX rates, swapped as a whole. Readers take one {@link FxRates} and convert with it, so
+ * a reload never mixes rates of two tables in one computation. A table that fails validation is
+ * rejected and the previous one stays in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FxRateTable {
+
+  private final FxRateProvider fxRateProvider;
+  private final FxProperty fxProperty;
+  private final AtomicReference<FxRates> current = new AtomicReference<>();
+  private ScheduledExecutorService refresher;
+
+  @PostConstruct
+  void start() throws IOException {
+    reload();
+
+    long refreshIntervalMillis = fxProperty.refreshInterval().toMillis();
+    refresher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("fx-refresher").daemon().factory());
+    refresher.scheduleWithFixedDelay(this::reloadQuietly,
+        refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    refresher.shutdownNow();
+  }
+
+  public FxRates current() {
+    return current.get();
+  }
+
+  public FxRates reload() throws IOException {
+    FxRates rates = fxRateProvider.fetch();
+
+    current.set(rates);
+    log.info("Loaded {} FX rates against {}", rates.rates().size(), rates.base());
+
+    return rates;
+  }
+
+  private void reloadQuietly() {
+    try {
+      reload();
+    } catch (IOException | RuntimeException e) {
+      log.error("FX rate reload failed, keeping the rates of {}", current.get().asOf(), e);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.rates;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Immutable rate table quoting every currency against one base currency: {@code rates.get(X)}
+ * units of X buy one unit of {@code base}.
+ */
+public record FxRates(String base, Map<String, BigDecimal> rates, Instant asOf) {
+
+  public FxRates {
+    rates = Map.copyOf(rates);
+
+    if (!rates.containsKey(base) || rates.get(base).compareTo(BigDecimal.ONE) != 0) {
+      throw new IllegalArgumentException("Base currency " + base + " must be quoted at 1");
+    }
+    rates.forEach((currency, rate) -> {
+      if (rate.signum() <= 0) {
+        throw new IllegalArgumentException("Rate of " + currency + " must be positive");
+      }
+    });
+  }
+
+  public boolean quotes(String currency) {
+    return rates.containsKey(currency);
+  }
+
+  /**
+   * Converts {@code amount} from one quoted currency to another through the base currency.
+   */
+  public BigDecimal convert(BigDecimal amount, String from, String to) {
+    if (from.equals(to)) {
+      return amount;
+    }
+
+    return amount.divide(rates.get(from), MathContext.DECIMAL128).multiply(rates.get(to));
+  }
+}
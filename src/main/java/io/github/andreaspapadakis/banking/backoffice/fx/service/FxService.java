@@ -0,0 +1,19 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.service;
+
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.ExposureDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.FxRatesDto;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+public interface FxService {
+
+  @NotNull
+  FxRatesDto getRates();
+
+  @NotNull
+  FxRatesDto reloadRates();
+
+  @NotNull
+  ExposureDto getExposure(String currency);
+}
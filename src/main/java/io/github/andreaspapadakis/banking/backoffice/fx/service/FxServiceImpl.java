@@ -0,0 +1,100 @@
+package io.github.andreaspapadakis.banking.backoffice.fx.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencyTotals;
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.CurrencyExposureDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.ExposureDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.dto.FxRatesDto;
+import io.github.andreaspapadakis.banking.backoffice.fx.exception.FxRateNotFoundException;
+import io.github.andreaspapadakis.banking.backoffice.fx.exception.FxRatesUnavailableException;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRateTable;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRates;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class FxServiceImpl implements FxService {
+
+  private final FxRateTable fxRateTable;
+  private final AccountRepository accountRepository;
+  private final BalanceLedger balanceLedger;
+
+  @Override
+  public FxRatesDto getRates() {
+    return toDto(fxRateTable.current());
+  }
+
+  @Override
+  public FxRatesDto reloadRates() {
+    try {
+      return toDto(fxRateTable.reload());
+    } catch (IOException | RuntimeException e) {
+      log.error("FX rate reload failed", e);
+      throw new FxRatesUnavailableException();
+    }
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public ExposureDto getExposure(String currency) {
+    // one table for the whole computation, a concurrent reload does not affect it
+    FxRates rates = fxRateTable.current();
+
+    if (!rates.quotes(currency)) {
+      throw new FxRateNotFoundException();
+    }
+
+    // hot account balances may still sit in the ledger; flushed before the sum's transaction,
+    // since the flush commits in one of its own
+    balanceLedger.flush();
+
+    // the database sums each currency over the (currency, balance) index, so only one row per
+    // currency reaches the application and each sum is converted exactly once
+    List<CurrencyExposureDto> currencies = new ArrayList<>();
+    List<String> unconvertedCurrencies = new ArrayList<>();
+    BigDecimal total = BigDecimal.ZERO;
+
+    for (CurrencyTotals totals : accountRepository.sumBalancesByCurrency()) {
+      if (totals.currency() == null || !rates.quotes(totals.currency())) {
+        unconvertedCurrencies.add(totals.currency());
+        currencies.add(new CurrencyExposureDto(totals.currency(), totals.count(),
+            totals.currency() == null ? null : MoneyUtils.toDecimal(totals.sum(),
+                totals.currency()),
+            null));
+        continue;
+      }
+
+      BigDecimal sum = MoneyUtils.toDecimal(totals.sum(), totals.currency());
+      BigDecimal converted = rates.convert(sum, totals.currency(), currency);
+      total = total.add(converted);
+      currencies.add(new CurrencyExposureDto(totals.currency(), totals.count(), sum,
+          toMinorUnitScale(converted, currency)));
+    }
+
+    return new ExposureDto(currency, rates.asOf(), toMinorUnitScale(total, currency),
+        currencies, unconvertedCurrencies);
+  }
+
+  // the total is summed before rounding, so it may differ from the sum of the rounded parts
+  private static BigDecimal toMinorUnitScale(BigDecimal amount, String currency) {
+    return amount.setScale(MoneyUtils.scale(currency), RoundingMode.HALF_EVEN);
+  }
+
+  private FxRatesDto toDto(FxRates rates) {
+    return new FxRatesDto(rates.base(), rates.asOf(), new TreeMap<>(rates.rates()));
+  }
+}
@@ -0,0 +1,172 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.concurrency;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.ConcurrencyProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.persistence.DataSourceProxyConfigurer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the number of connections checked out at once when requests run on virtual threads.
+ * There is no longer a request thread pool to do it, so thousands of virtual threads would
+ * otherwise queue inside the connection pool and time out there. Waiting on the semaphore parks
+ * the virtual thread and frees its carrier.
+ *
+ * <p>A permit belongs to the thread, not to the connection: a thread that already holds one
+ * opens further connections without waiting for a second permit, which could otherwise deadlock
+ * once every permit is held by an outer transaction. No request path nests connections on
+ * purpose, since writers release hot accounts before their transaction opens, but the pool keeps
+ * room for a permit holder's second connection all the same.
+ *
+ * <p>It runs after {@link DataSourceProxyConfigurer}, so the permit wraps the statement proxy
+ * whatever order the beans are registered in.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiter implements BeanPostProcessor, Ordered {
+
+  private final ConcurrencyProperty concurrencyProperty;
+
+  public DatabaseConcurrencyLimiter(ConcurrencyProperty concurrencyProperty) {
+    this.concurrencyProperty = concurrencyProperty;
+  }
+
+  @Override
+  public int getOrder() {
+    return DataSourceProxyConfigurer.ORDER + 1;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof LimitedDataSource)) {
+      return new LimitedDataSource(dataSource, new Semaphore(concurrencyProperty.databasePermits(),
+          true), concurrencyProperty.databaseAcquireTimeout().toMillis());
+    }
+
+    return bean;
+  }
+
+  private static final class LimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final ThreadLocal<PermitHold> holds = new ThreadLocal<>();
+
+    private LimitedDataSource(DataSource target, Semaphore permits, long acquireTimeoutMillis) {
+      super(target);
+      this.permits = permits;
+      this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      PermitHold hold = acquire();
+      try {
+        return releasingOnClose(obtainTargetDataSource().getConnection(), hold);
+      } catch (SQLException | RuntimeException e) {
+        hold.release();
+        throw e;
+      }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      PermitHold hold = acquire();
+      try {
+        return releasingOnClose(obtainTargetDataSource().getConnection(username, password),
+            hold);
+      } catch (SQLException | RuntimeException e) {
+        hold.release();
+        throw e;
+      }
+    }
+
+    private PermitHold acquire() throws SQLException {
+      PermitHold hold = holds.get();
+
+      if (hold != null && hold.retain()) {
+        return hold;
+      }
+
+      try {
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+          throw new SQLTransientConnectionException("No database permit available after "
+              + acquireTimeoutMillis + "ms");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLTransientConnectionException("Interrupted waiting for a database permit", e);
+      }
+
+      hold = new PermitHold();
+      holds.set(hold);
+      return hold;
+    }
+
+    private Connection releasingOnClose(Connection connection, PermitHold hold) {
+      AtomicBoolean released = new AtomicBoolean();
+
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            // the proxy is its own identity, pools and transaction managers key on it
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+              return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+              return System.identityHashCode(proxy);
+            }
+
+            if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              } finally {
+                hold.release();
+              }
+            }
+
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          });
+    }
+
+    /**
+     * One permit shared by the connections a thread has open; it goes back to the semaphore when
+     * the last of them closes, whichever thread closes it.
+     */
+    private final class PermitHold {
+
+      private final AtomicInteger connections = new AtomicInteger(1);
+
+      // fails once the permit was given back, the thread then acquires a new one
+      private boolean retain() {
+        return connections.getAndUpdate(open -> open == 0 ? 0 : open + 1) > 0;
+      }
+
+      private void release() {
+        if (connections.decrementAndGet() == 0) {
+          permits.release();
+          if (holds.get() == this) {
+            holds.remove();
+          }
+        }
+      }
+    }
+  }
+}
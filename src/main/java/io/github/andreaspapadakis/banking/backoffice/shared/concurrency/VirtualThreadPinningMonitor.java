@@ -0,0 +1,84 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.concurrency;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.ConcurrencyProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in-process. Every pinning longer than
+ * {@code app.concurrency.pinning-threshold} is recorded in the {@code virtual.threads.pinned}
+ * timer, tagged with the innermost application frame such as
+ * {@code AccountServiceImpl.clearDebts}. The first occurrence per site is logged with its
+ * application stack.
+ */
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled",
+    "app.concurrency.pinning-detection"}, havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APPLICATION_PACKAGE = "io.github.andreaspapadakis.banking";
+
+  private final ConcurrencyProperty concurrencyProperty;
+  private final MeterRegistry meterRegistry;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+  private RecordingStream recordingStream;
+
+  @PostConstruct
+  void start() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT)
+        .withThreshold(concurrencyProperty.pinningThreshold())
+        .withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::report);
+    recordingStream.startAsync();
+  }
+
+  @PreDestroy
+  void stop() {
+    recordingStream.close();
+  }
+
+  private void report(RecordedEvent event) {
+    List<RecordedFrame> applicationFrames = event.getStackTrace() == null
+        ? List.of()
+        : event.getStackTrace().getFrames().stream()
+            .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+            .toList();
+    String site = applicationFrames.isEmpty() ? "unknown" : describe(applicationFrames.getFirst());
+
+    Timer.builder("virtual.threads.pinned")
+        .description("Time virtual threads spent pinned to their carrier")
+        .tag("site", site)
+        .register(meterRegistry)
+        .record(event.getDuration());
+
+    if (reportedSites.add(site)) {
+      log.warn("Virtual thread pinned for {}ms at {}:\n\t{}", event.getDuration().toMillis(), site,
+          applicationFrames.stream()
+              .map(frame -> describe(frame) + ":" + frame.getLineNumber())
+              .collect(Collectors.joining("\n\t")));
+    }
+  }
+
+  private static String describe(RecordedFrame frame) {
+    String typeName = frame.getMethod().getType().getName();
+
+    return typeName.substring(typeName.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+  }
+}
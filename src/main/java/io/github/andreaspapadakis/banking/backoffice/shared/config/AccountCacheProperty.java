@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.accounts.cache")
+public record AccountCacheProperty(@DefaultValue("10000") long maximumSize,
+                                   @DefaultValue("5m") Duration expireAfterWrite) {}
@@ -0,0 +1,10 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.accounts.import")
+public record AccountImportProperty(@DefaultValue("1000") int chunkSize,
+                                    @DefaultValue("4") int parallelism,
+                                    @DefaultValue("8") int queueCapacity,
+                                    @DefaultValue("100") int maxReportedRejections) {}
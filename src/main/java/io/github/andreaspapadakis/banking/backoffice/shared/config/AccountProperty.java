@@ -0,0 +1,13 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.accounts")
+public record AccountProperty(@DefaultValue("50") int defaultPageSize,
+                              @DefaultValue("500") int maxPageSize,
+                              @DefaultValue("1000") int debtClearingChunkSize,
+                              @DefaultValue("5") int balanceUpdateMaxAttempts,
+                              @DefaultValue("10ms") Duration balanceUpdateInitialBackoff,
+                              @DefaultValue("100") int batchInsertSize) {}
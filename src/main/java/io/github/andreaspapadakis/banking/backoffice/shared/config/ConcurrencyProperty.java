@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.concurrency")
+public record ConcurrencyProperty(@DefaultValue("5") int databasePermits,
+                                  @DefaultValue("30s") Duration databaseAcquireTimeout,
+                                  @DefaultValue("true") boolean pinningDetection,
+                                  @DefaultValue("20ms") Duration pinningThreshold) {}
@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * An empty {@code allowed} set accepts every ISO-4217 code known to the JDK.
+ */
+@ConfigurationProperties(prefix = "app.currencies")
+public record CurrencyProperty(@DefaultValue Set<String> allowed) {}
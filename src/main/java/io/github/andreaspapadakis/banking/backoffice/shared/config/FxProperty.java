@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+@ConfigurationProperties(prefix = "app.fx")
+public record FxProperty(@DefaultValue("file") String provider,
+                         @DefaultValue("classpath:fx-rates.properties") Resource ratesLocation,
+                         @DefaultValue("1h") Duration refreshInterval) {}
@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.journal")
+public record JournalProperty(@DefaultValue("1h") Duration snapshotInterval) {}
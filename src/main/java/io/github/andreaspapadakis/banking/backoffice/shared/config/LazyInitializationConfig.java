@@ -0,0 +1,41 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceJournal;
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRateTable;
+import io.github.andreaspapadakis.banking.backoffice.shared.concurrency.VirtualThreadPinningMonitor;
+import io.github.andreaspapadakis.banking.backoffice.shared.random.PrefetchingRandomSource;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Beans that stay eager under {@code spring.main.lazy-initialization}: an enabled ledger replays
+ * its journal before anything may read a balance, the FX table loads its rates so that the first
+ * conversion does not fetch them, the random source is ready before the first draw, and the
+ * others only work on their own schedule, so nothing would ever ask for them.
+ *
+ * <p>A disabled ledger has nothing to replay and stays lazy. An enabled one that finds leftover
+ * journal segments replays them through a repository query, which forces the deferred
+ * EntityManagerFactory to finish synchronously. Under {@code bootstrap-mode=deferred} the startup
+ * thread then waits for the background-built factory; the deferral only overlaps the JPA build
+ * with the beans created ahead of the ledger.
+ */
+@Configuration
+class LazyInitializationConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerBeans(Environment environment) {
+    LazyInitializationExcludeFilter alwaysEager = LazyInitializationExcludeFilter.forBeanTypes(
+        BalanceJournal.class, FxRateTable.class, PrefetchingRandomSource.class,
+        VirtualThreadPinningMonitor.class);
+    LazyInitializationExcludeFilter ledger =
+        LazyInitializationExcludeFilter.forBeanTypes(BalanceLedger.class);
+    boolean ledgerEnabled = environment.getProperty("app.ledger.enabled", Boolean.class, false);
+
+    return (beanName, beanDefinition, beanType) ->
+        alwaysEager.isExcluded(beanName, beanDefinition, beanType)
+            || (ledgerEnabled && ledger.isExcluded(beanName, beanDefinition, beanType));
+  }
+}
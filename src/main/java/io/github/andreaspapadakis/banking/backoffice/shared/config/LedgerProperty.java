@@ -0,0 +1,15 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.ledger")
+public record LedgerProperty(@DefaultValue("false") boolean enabled,
+                             @DefaultValue Set<UUID> hotAccounts,
+                             @DefaultValue("1s") Duration flushInterval,
+                             @DefaultValue("500") int flushBatchSize,
+                             @DefaultValue("data/ledger") Path journalDirectory) {}
@@ -0,0 +1,13 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.query-budget")
+public record QueryBudgetProperty(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("50") int maxStatements,
+                                  @DefaultValue("500ms") Duration maxJdbcTime,
+                                  @DefaultValue("20") int slowStatementCapacity,
+                                  @DefaultValue("10ms") Duration slowStatementThreshold,
+                                  @DefaultValue("50") int violationCapacity) {}
@@ -1,6 +1,15 @@
 package io.github.andreaspapadakis.banking.backoffice.shared.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.random-number-generator")
-public record RandomNumberGeneratorProperty(String apiKey, String apiUrl) {}
+public record RandomNumberGeneratorProperty(String apiKey,
+                                            String apiUrl,
+                                            @DefaultValue("1000") int batchSize,
+                                            @DefaultValue("4096") int poolCapacity,
+                                            @DefaultValue("1024") int refillThreshold,
+                                            @DefaultValue("500ms") Duration refillInterval,
+                                            @DefaultValue("5s") Duration timeout,
+                                            @DefaultValue("1m") Duration maxBackoff) {}
@@ -0,0 +1,12 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.second-level-cache")
+public record SecondLevelCacheProperty(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("10000") long accountMaximumSize,
+                                       @DefaultValue("10m") Duration accountExpireAfterWrite,
+                                       @DefaultValue("1000") long queryMaximumSize,
+                                       @DefaultValue("1m") Duration queryExpireAfterWrite) {}
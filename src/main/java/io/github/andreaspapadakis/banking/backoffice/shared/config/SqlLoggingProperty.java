@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.sql-logging")
+public record SqlLoggingProperty(@DefaultValue("0ms") Duration slowQueryThreshold,
+                                 @DefaultValue("0") double sampleRate) {}
@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.transfers")
+public record TransferProperty(@DefaultValue("4") int batchParallelism,
+                               @DefaultValue("1000") int maxBatchSize) {}
@@ -0,0 +1,20 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.exception;
+
+/**
+ * Base of the exceptions that report an expected outcome to the client rather than a bug.
+ * They carry no stack trace, since nobody reads it and filling it in dominates the cost of a
+ * rejected request. The message is the key of the pre-resolved text in {@link ErrorMessages}.
+ */
+public abstract class DomainException extends RuntimeException {
+
+  private final ErrorCode errorCode;
+
+  protected DomainException(ErrorCode errorCode) {
+    super(errorCode.messageKey(), null, false, false);
+    this.errorCode = errorCode;
+  }
+
+  public ErrorCode getErrorCode() {
+    return errorCode;
+  }
+}
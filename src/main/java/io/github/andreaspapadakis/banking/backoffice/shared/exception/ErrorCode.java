@@ -0,0 +1,44 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected domain outcomes, each with its message key in {@code ValidationMessages} and the
+ * status it is answered with.
+ */
+public enum ErrorCode {
+  ACCOUNT_NOT_FOUND("accountNotFoundErrorMessage", HttpStatus.NOT_FOUND),
+  NO_ACCOUNTS_WITH_CURRENCY("noAccountsWithCurrencyErrorMessage", HttpStatus.NOT_FOUND),
+  NO_ACCOUNTS_IN_DEBT("noAccountsInDebtErrorMessage", HttpStatus.NOT_FOUND),
+  INVALID_CURSOR("invalidCursorErrorMessage", HttpStatus.BAD_REQUEST),
+  INVALID_IMPORT_HEADER("invalidImportHeaderErrorMessage", HttpStatus.BAD_REQUEST),
+  MALFORMED_RECORD("malformedRecordErrorMessage", HttpStatus.BAD_REQUEST),
+  AMOUNT_TOO_PRECISE("amountTooPreciseErrorMessage", HttpStatus.BAD_REQUEST),
+  AMOUNT_OUT_OF_RANGE("amountOutOfRangeErrorMessage", HttpStatus.BAD_REQUEST),
+  SAME_ACCOUNT_TRANSFER("sameAccountTransferErrorMessage", HttpStatus.BAD_REQUEST),
+  TRANSFER_CURRENCY_MISMATCH("transferCurrencyMismatchErrorMessage", HttpStatus.CONFLICT),
+  TRANSFER_BATCH_TOO_LARGE("transferBatchTooLargeErrorMessage", HttpStatus.BAD_REQUEST),
+  FX_RATE_NOT_FOUND("fxRateNotFoundErrorMessage", HttpStatus.NOT_FOUND),
+  FX_RATES_UNAVAILABLE("fxRatesUnavailableErrorMessage", HttpStatus.SERVICE_UNAVAILABLE),
+  TOO_WEAK_FOR_ROULETTE("tooWeakForRouletteErrorMessage", HttpStatus.FORBIDDEN),
+  BALANCE_CHANGED_DURING_ROULETTE("balanceChangedDuringRouletteErrorMessage",
+      HttpStatus.FORBIDDEN),
+  // a batch item that failed unexpectedly; the cause is logged, not echoed to the client
+  ITEM_FAILED("itemFailedErrorMessage", HttpStatus.INTERNAL_SERVER_ERROR);
+
+  private final String messageKey;
+  private final HttpStatus status;
+
+  ErrorCode(String messageKey, HttpStatus status) {
+    this.messageKey = messageKey;
+    this.status = status;
+  }
+
+  public String messageKey() {
+    return messageKey;
+  }
+
+  public HttpStatus status() {
+    return status;
+  }
+}
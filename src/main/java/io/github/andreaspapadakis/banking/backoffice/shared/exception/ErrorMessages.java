@@ -0,0 +1,37 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.exception;
+
+import java.text.MessageFormat;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Error texts resolved from the {@link MessageSource} once at startup, so that rejecting a
+ * request neither looks up bundles nor parses message patterns.
+ */
+@Component
+public class ErrorMessages {
+
+  private static final String TYPE_MISMATCH_KEY = "defaultMethodArgumentTypeMismatchErrorMessage";
+
+  private final Map<ErrorCode, String> messages = new EnumMap<>(ErrorCode.class);
+  private final MessageFormat typeMismatchFormat;
+
+  public ErrorMessages(MessageSource messageSource) {
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      messages.put(errorCode, messageSource.getMessage(errorCode.messageKey(), null, null));
+    }
+    typeMismatchFormat = new MessageFormat(messageSource.getMessage(TYPE_MISMATCH_KEY, null, null));
+  }
+
+  public String get(ErrorCode errorCode) {
+    return messages.get(errorCode);
+  }
+
+  public String typeMismatch(String name, Object value, String requiredType) {
+    // MessageFormat is not thread-safe, a clone shares the parsed pattern
+    return ((MessageFormat) typeMismatchFormat.clone())
+        .format(new Object[]{name, value, requiredType});
+  }
+}
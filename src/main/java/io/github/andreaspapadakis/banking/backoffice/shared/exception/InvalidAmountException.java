@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.exception;
+
+public class InvalidAmountException extends DomainException {
+
+  public InvalidAmountException(ErrorCode errorCode) {
+    super(errorCode);
+  }
+}
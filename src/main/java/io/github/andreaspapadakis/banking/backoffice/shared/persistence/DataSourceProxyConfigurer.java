@@ -0,0 +1,105 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.QueryBudgetProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.SqlLoggingProperty;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.listener.logging.SLF4JQueryLoggingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the data source in a proxy that sees every statement with its bound parameters and
+ * timing. It feeds {@link QueryStatistics} while {@code app.query-budget.enabled} is set, and
+ * replaces Hibernate's show-sql, which prints every statement synchronously and without
+ * parameters: statements slower than {@code app.sql-logging.slow-query-threshold} go to
+ * {@code sql.slow}, a {@code app.sql-logging.sample-rate} fraction of all statements to
+ * {@code sql.sampled}. With nothing to feed the data source is left alone.
+ *
+ * <p>It runs at {@link #ORDER}, ahead of the other data source wrappers, so the proxy always sits
+ * right on the pool and the wrappers that bound connections sit outside of it.
+ */
+@Component
+public class DataSourceProxyConfigurer implements BeanPostProcessor, Ordered {
+
+  public static final String SLOW_LOGGER = "sql.slow";
+  public static final String SAMPLED_LOGGER = "sql.sampled";
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+  private final SqlLoggingProperty sqlLoggingProperty;
+  private final QueryBudgetProperty queryBudgetProperty;
+  private final QueryStatistics queryStatistics;
+
+  public DataSourceProxyConfigurer(SqlLoggingProperty sqlLoggingProperty,
+                                   QueryBudgetProperty queryBudgetProperty,
+                                   QueryStatistics queryStatistics) {
+    this.sqlLoggingProperty = sqlLoggingProperty;
+    this.queryBudgetProperty = queryBudgetProperty;
+    this.queryStatistics = queryStatistics;
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    long slowQueryThresholdMillis = sqlLoggingProperty.slowQueryThreshold().toMillis();
+    double sampleRate = sqlLoggingProperty.sampleRate();
+
+    if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+        || (slowQueryThresholdMillis <= 0 && sampleRate <= 0
+            && !queryBudgetProperty.enabled())) {
+      return bean;
+    }
+
+    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+        .name(beanName);
+
+    if (queryBudgetProperty.enabled()) {
+      builder.listener(queryStatistics);
+    }
+
+    if (slowQueryThresholdMillis > 0) {
+      builder.logSlowQueryBySlf4j(slowQueryThresholdMillis, TimeUnit.MILLISECONDS,
+          SLF4JLogLevel.WARN, SLOW_LOGGER);
+    }
+
+    if (sampleRate > 0) {
+      SLF4JQueryLoggingListener listener = new SLF4JQueryLoggingListener();
+      listener.setLogger(SAMPLED_LOGGER);
+      listener.setLogLevel(SLF4JLogLevel.INFO);
+      builder.listener(new SampledListener(listener, sampleRate));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Passes on a random fraction of executions, decided once per execution so a logged statement
+   * always carries its timing.
+   */
+  private record SampledListener(QueryExecutionListener delegate, double sampleRate)
+      implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+        delegate.afterQuery(execInfo, queryInfoList);
+      }
+    }
+  }
+}
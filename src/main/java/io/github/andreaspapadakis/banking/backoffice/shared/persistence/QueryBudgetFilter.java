@@ -0,0 +1,132 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.QueryBudgetProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.persistence.QueryStatistics.RequestQueries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the statements and JDBC time of every HTTP request. Each request records its statement
+ * count in the {@code http.server.requests.statements} summary, tagged by route. A request over
+ * {@code app.query-budget.max-statements} or {@code app.query-budget.max-jdbc-time} is logged,
+ * counted in {@code sql.budget.exceeded} and kept for {@code /api/admin/queries}, so an N+1
+ * pattern shows up as a route whose statement count grows with its data.
+ *
+ * <p>A {@code StreamingResponseBody}, such as the NDJSON listing or {@code /api/accounts/export},
+ * runs its statements on the async task executor and finishes on an async dispatch. The counters
+ * are kept in a request attribute and resumed on both, and the request is reported once, by the
+ * dispatch that does not start async processing again. Statements run on other threads, such as
+ * batch transfer workers, are not attributed to the request.
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  private static final String REQUEST_QUERIES_ATTRIBUTE =
+      QueryBudgetFilter.class.getName() + ".REQUEST_QUERIES";
+
+  private final QueryStatistics queryStatistics;
+  private final QueryBudgetProperty queryBudgetProperty;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    RequestQueries requestQueries =
+        (RequestQueries) request.getAttribute(REQUEST_QUERIES_ATTRIBUTE);
+
+    if (requestQueries == null) {
+      requestQueries = queryStatistics.begin();
+      request.setAttribute(REQUEST_QUERIES_ATTRIBUTE, requestQueries);
+      WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(
+          REQUEST_QUERIES_ATTRIBUTE, new AsyncTaskQueries(requestQueries));
+    } else {
+      queryStatistics.resume(requestQueries);
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      queryStatistics.end();
+
+      if (!isAsyncStarted(request)) {
+        report(request, requestQueries);
+      }
+    }
+  }
+
+  private void report(HttpServletRequest request, RequestQueries requestQueries) {
+    String route = Objects.toString(
+        request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+
+    DistributionSummary.builder("http.server.requests.statements")
+        .description("JDBC statements executed per HTTP request")
+        .tag("method", request.getMethod())
+        .tag("uri", route)
+        .register(meterRegistry)
+        .record(requestQueries.statements());
+
+    if (requestQueries.statements() <= queryBudgetProperty.maxStatements()
+        && requestQueries.jdbcTimeMillis() <= queryBudgetProperty.maxJdbcTime().toMillis()) {
+      return;
+    }
+
+    Counter.builder("sql.budget.exceeded")
+        .description("HTTP requests over their statement or JDBC time budget")
+        .tag("method", request.getMethod())
+        .tag("uri", route)
+        .register(meterRegistry)
+        .increment();
+    queryStatistics.budgetExceeded(new QueryBudgetViolation(Instant.now(), request.getMethod(),
+        route, requestQueries.statements(), requestQueries.jdbcTimeMillis()));
+    log.warn("{} {} ran {} statements in {}ms, over the budget of {} statements or {}ms",
+        request.getMethod(), route, requestQueries.statements(), requestQueries.jdbcTimeMillis(),
+        queryBudgetProperty.maxStatements(), queryBudgetProperty.maxJdbcTime().toMillis());
+  }
+
+  /**
+   * Counts the statements of an async task, a {@code StreamingResponseBody} included, towards
+   * the request that started it.
+   */
+  @RequiredArgsConstructor
+  private class AsyncTaskQueries implements CallableProcessingInterceptor {
+
+    private final RequestQueries requestQueries;
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+      queryStatistics.resume(requestQueries);
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task,
+                                Object concurrentResult) {
+      queryStatistics.end();
+    }
+  }
+}
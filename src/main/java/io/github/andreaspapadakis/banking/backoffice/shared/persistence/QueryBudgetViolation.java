@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import java.time.Instant;
+
+public record QueryBudgetViolation(Instant observedAt,
+                                   String method,
+                                   String route,
+                                   int statements,
+                                   long jdbcTimeMillis) {}
@@ -0,0 +1,192 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.QueryBudgetProperty;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Statement counts and JDBC time of the request on the current thread, the slowest normalised
+ * statements and the most recent requests over budget. Every execution, a JDBC batch included,
+ * counts as one statement, since the round trips are what an N+1 pattern multiplies.
+ *
+ * <p>The slowest statements are a top-K table keyed by the statement with literals replaced by
+ * {@code ?}. An execution no slower than {@code app.query-budget.slow-statement-threshold}, or
+ * once the table is full than its fastest entry, is dismissed with a single volatile read, so
+ * only the rare slow execution pays for normalising. Admission is a merge into a concurrent map;
+ * the lock that trims the table back to capacity is a {@link ReentrantLock}, which unlike a
+ * monitor does not pin a virtual thread, and is only tried, never waited for.
+ */
+@Component
+public class QueryStatistics implements QueryExecutionListener {
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern PARAMETER_LIST =
+      Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final ThreadLocal<RequestQueries> currentRequest = new ThreadLocal<>();
+  private final int slowStatementCapacity;
+  private final long slowStatementThresholdMillis;
+  private final int violationCapacity;
+  private final Map<String, SlowStatement> slowStatements = new ConcurrentHashMap<>();
+  private final ReentrantLock trimLock = new ReentrantLock();
+  private final Deque<QueryBudgetViolation> violations = new ArrayDeque<>();
+  private final ReentrantLock violationLock = new ReentrantLock();
+  private final LongAdder requestsOverBudget = new LongAdder();
+  // elapsed time an execution must exceed to enter the table, raised once the table is full
+  private volatile long admissionFloorMillis;
+
+  public QueryStatistics(QueryBudgetProperty queryBudgetProperty) {
+    this.slowStatementCapacity = queryBudgetProperty.slowStatementCapacity();
+    this.slowStatementThresholdMillis = queryBudgetProperty.slowStatementThreshold().toMillis();
+    this.violationCapacity = queryBudgetProperty.violationCapacity();
+    this.admissionFloorMillis = slowStatementThresholdMillis;
+  }
+
+  /**
+   * Starts counting the statements of the current thread until {@link #end()}.
+   */
+  public RequestQueries begin() {
+    RequestQueries requestQueries = new RequestQueries();
+    resume(requestQueries);
+
+    return requestQueries;
+  }
+
+  /**
+   * Counts the statements of the current thread towards a request begun on another thread, such
+   * as the async dispatch or the streaming task of a request, until {@link #end()}.
+   */
+  public void resume(RequestQueries requestQueries) {
+    currentRequest.set(requestQueries);
+  }
+
+  public void end() {
+    currentRequest.remove();
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    long elapsedMillis = execInfo.getElapsedTime();
+    RequestQueries requestQueries = currentRequest.get();
+
+    if (requestQueries != null) {
+      requestQueries.statements++;
+      requestQueries.jdbcTimeMillis += elapsedMillis;
+    }
+
+    if (elapsedMillis > admissionFloorMillis) {
+      for (QueryInfo queryInfo : queryInfoList) {
+        recordSlow(normalise(queryInfo.getQuery()), elapsedMillis);
+      }
+    }
+  }
+
+  public void budgetExceeded(QueryBudgetViolation violation) {
+    requestsOverBudget.increment();
+
+    violationLock.lock();
+    try {
+      if (violations.size() == violationCapacity) {
+        violations.removeFirst();
+      }
+      violations.addLast(violation);
+    } finally {
+      violationLock.unlock();
+    }
+  }
+
+  public List<SlowStatement> slowestStatements() {
+    return slowStatements.values().stream()
+        .sorted(Comparator.comparingLong(SlowStatement::elapsedMillis).reversed())
+        .toList();
+  }
+
+  /**
+   * Most recent first.
+   */
+  public List<QueryBudgetViolation> recentViolations() {
+    violationLock.lock();
+    try {
+      return new ArrayList<>(violations.reversed());
+    } finally {
+      violationLock.unlock();
+    }
+  }
+
+  public long requestsOverBudget() {
+    return requestsOverBudget.sum();
+  }
+
+  private void recordSlow(String statement, long elapsedMillis) {
+    slowStatements.merge(statement, new SlowStatement(statement, elapsedMillis, Instant.now()),
+        (current, candidate) -> candidate.elapsedMillis() > current.elapsedMillis()
+            ? candidate
+            : current);
+
+    // whoever trims covers the admissions that raced it, the others move on
+    if (slowStatements.size() < slowStatementCapacity || !trimLock.tryLock()) {
+      return;
+    }
+
+    try {
+      while (slowStatements.size() > slowStatementCapacity) {
+        SlowStatement fastest = fastest();
+        slowStatements.remove(fastest.statement(), fastest);
+      }
+
+      admissionFloorMillis = Math.max(slowStatementThresholdMillis, fastest().elapsedMillis());
+    } finally {
+      trimLock.unlock();
+    }
+  }
+
+  private SlowStatement fastest() {
+    return slowStatements.values().stream()
+        .min(Comparator.comparingLong(SlowStatement::elapsedMillis))
+        .orElseThrow();
+  }
+
+  static String normalise(String sql) {
+    String normalised = STRING_LITERAL.matcher(sql).replaceAll("?");
+    normalised = NUMERIC_LITERAL.matcher(normalised).replaceAll("?");
+    normalised = PARAMETER_LIST.matcher(normalised).replaceAll("(?...)");
+
+    return WHITESPACE.matcher(normalised).replaceAll(" ").strip();
+  }
+
+  /**
+   * Counters of one request, only ever touched by one thread serving it at a time; the servlet
+   * container orders the hand-offs between its dispatches and async task.
+   */
+  public static final class RequestQueries {
+
+    private int statements;
+    private long jdbcTimeMillis;
+
+    public int statements() {
+      return statements;
+    }
+
+    public long jdbcTimeMillis() {
+      return jdbcTimeMillis;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.SecondLevelCacheProperty;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns on Hibernate's second-level cache for {@link Account} and the query cache for the
+ * repository queries that name {@link AccountRepository#QUERY_CACHE_REGION}. Every region is
+ * created up front in a local Caffeine-backed JCache with its own size bound, and a region
+ * missing from here fails the startup instead of growing unbounded. Statistics are switched on
+ * as well, which Spring Boot publishes as {@code hibernate.*} meters.
+ *
+ * <p>Hibernate cannot tell which rows a JPQL bulk update or delete touched, so each one drops
+ * the whole account region and marks every cached query result stale. {@code addToBalance} runs
+ * for every credit or debit the ledger does not absorb, next to the roulette guards and
+ * {@code clearDebts}, so under a steady stream of balance changes the region empties about as
+ * fast as it fills; transfers update entities and only evict their two accounts. The cache is
+ * only worth enabling for read-mostly deployments. Writers that bypass Hibernate with plain JDBC
+ * evict their own rows.
+ *
+ * <p>The properties are resolved on first use rather than injected, so that registering this
+ * post-processor does not create them ahead of the other post-processors.
+ */
+@Component
+@ConditionalOnProperty(name = "app.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfigurer implements BeanPostProcessor, DisposableBean {
+
+  private final ObjectProvider<SecondLevelCacheProperty> secondLevelCacheProperty;
+  private CacheManager cacheManager;
+
+  public SecondLevelCacheConfigurer(
+      ObjectProvider<SecondLevelCacheProperty> secondLevelCacheProperty) {
+    this.secondLevelCacheProperty = secondLevelCacheProperty;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+      entityManagerFactory.getJpaPropertyMap().putAll(Map.of(
+          AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+          AvailableSettings.USE_QUERY_CACHE, true,
+          AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+          ConfigSettings.CACHE_MANAGER, cacheManager(),
+          ConfigSettings.MISSING_CACHE_STRATEGY, "fail",
+          AvailableSettings.GENERATE_STATISTICS, true));
+    }
+
+    return bean;
+  }
+
+  @Override
+  public void destroy() {
+    if (cacheManager != null) {
+      cacheManager.close();
+    }
+  }
+
+  private CacheManager cacheManager() {
+    if (cacheManager == null) {
+      SecondLevelCacheProperty secondLevelCacheProperty = this.secondLevelCacheProperty.getObject();
+      cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+          .getCacheManager();
+
+      createRegion(Account.CACHE_REGION, secondLevelCacheProperty.accountMaximumSize(),
+          secondLevelCacheProperty.accountExpireAfterWrite());
+      createRegion(AccountRepository.QUERY_CACHE_REGION,
+          secondLevelCacheProperty.queryMaximumSize(),
+          secondLevelCacheProperty.queryExpireAfterWrite());
+      // results of cacheable queries without a region of their own
+      createRegion(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+          secondLevelCacheProperty.queryMaximumSize(),
+          secondLevelCacheProperty.queryExpireAfterWrite());
+      // one entry per table; evicting one would let stale query results be served
+      createRegion(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, null);
+    }
+
+    return cacheManager;
+  }
+
+  private void createRegion(String name, Long maximumSize, Duration expireAfterWrite) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+
+    if (maximumSize != null) {
+      configuration.setMaximumSize(OptionalLong.of(maximumSize));
+    }
+    if (expireAfterWrite != null) {
+      configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+    }
+    configuration.setStatisticsEnabled(true);
+
+    cacheManager.createCache(name, configuration);
+  }
+}
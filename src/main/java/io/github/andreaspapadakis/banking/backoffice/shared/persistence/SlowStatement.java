@@ -0,0 +1,5 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import java.time.Instant;
+
+public record SlowStatement(String statement, long elapsedMillis, Instant observedAt) {}
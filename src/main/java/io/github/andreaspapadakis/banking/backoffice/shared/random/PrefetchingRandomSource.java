@@ -0,0 +1,108 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.random;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.RandomNumberGeneratorProperty;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves random numbers from a pool that a background thread keeps topped up with large
+ * random.org batches. Callers never wait on the network: when the pool runs dry they get a
+ * number from a local CSPRNG instead. The thread starts with the first draw, so a context that
+ * never draws, such as a test one, never calls random.org.
+ */
+@Component
+@Slf4j
+public class PrefetchingRandomSource implements RandomSource {
+
+  private static final long RAW_RANGE = RandomOrgClient.MAX_VALUE + 1L;
+
+  private final RandomNumberGeneratorProperty randomNumberGeneratorProperty;
+  private final RandomOrgClient randomOrgClient;
+  private final RandomPool pool;
+  private final SecureRandom fallback = new SecureRandom();
+  private final Thread prefetcher;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean running = true;
+
+  public PrefetchingRandomSource(RandomNumberGeneratorProperty randomNumberGeneratorProperty,
+                                 RandomOrgClient randomOrgClient) {
+    this.randomNumberGeneratorProperty = randomNumberGeneratorProperty;
+    this.randomOrgClient = randomOrgClient;
+    this.pool = new RandomPool(randomNumberGeneratorProperty.poolCapacity());
+    this.prefetcher = Thread.ofPlatform()
+        .name("random-prefetcher")
+        .daemon()
+        .unstarted(this::prefetchLoop);
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    LockSupport.unpark(prefetcher);
+  }
+
+  @Override
+  public int nextInt(int min, int max) {
+    if (!started.get() && running && started.compareAndSet(false, true)) {
+      prefetcher.start();
+    }
+
+    long bound = (long) max - min + 1;
+    // rejection sampling keeps the result uniform when bound does not divide RAW_RANGE
+    long limit = RAW_RANGE - RAW_RANGE % bound;
+    int raw;
+
+    do {
+      raw = pool.poll();
+    } while (raw != RandomPool.EMPTY && raw >= limit);
+
+    if (pool.size() < randomNumberGeneratorProperty.refillThreshold()) {
+      LockSupport.unpark(prefetcher);
+    }
+
+    if (raw == RandomPool.EMPTY) {
+      return fallback.nextInt(min, max + 1);
+    }
+
+    return (int) (min + raw % bound);
+  }
+
+  private void prefetchLoop() {
+    long refillIntervalNanos = randomNumberGeneratorProperty.refillInterval().toNanos();
+    long maxBackoffNanos = Math.max(refillIntervalNanos,
+        randomNumberGeneratorProperty.maxBackoff().toNanos());
+    long backoffNanos = refillIntervalNanos;
+
+    while (running) {
+      int missing = pool.capacity() - pool.size();
+
+      if (pool.size() >= randomNumberGeneratorProperty.refillThreshold() || missing == 0) {
+        LockSupport.parkNanos(refillIntervalNanos);
+        continue;
+      }
+
+      try {
+        pool.offer(randomOrgClient.fetch(
+            Math.min(missing, randomNumberGeneratorProperty.batchSize())));
+        backoffNanos = refillIntervalNanos;
+      } catch (IOException | RuntimeException e) {
+        log.warn("Could not prefetch random numbers, serving from the local generator; "
+            + "retrying in {} ms", backoffNanos / 1_000_000, e);
+        // draws keep unparking the thread while the pool is low, so only a stop cuts this short
+        long retryAt = System.nanoTime() + backoffNanos;
+        for (long left = backoffNanos; running && left > 0; left = retryAt - System.nanoTime()) {
+          LockSupport.parkNanos(left);
+        }
+        backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.RandomNumberGeneratorProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch client for the random.org JSON-RPC {@code generateIntegers} method. The endpoint comes
+ * from {@code app.random-number-generator.api-url}, so any server speaking the same protocol,
+ * such as a local stub in tests, can stand in for random.org.
+ */
+@Component
+public class RandomOrgClient {
+
+  static final int MAX_VALUE = 1_000_000_000;
+
+  private final RandomNumberGeneratorProperty randomNumberGeneratorProperty;
+  private final ObjectMapper objectMapper;
+  private final HttpClient httpClient;
+  private final MeterRegistry meterRegistry;
+
+  public RandomOrgClient(RandomNumberGeneratorProperty randomNumberGeneratorProperty,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+    this.randomNumberGeneratorProperty = randomNumberGeneratorProperty;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(randomNumberGeneratorProperty.timeout())
+        .build();
+  }
+
+  /**
+   * Fetches {@code count} integers drawn uniformly from {@code [0, MAX_VALUE]}.
+   */
+  public int[] fetch(int count) throws IOException, InterruptedException {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+
+    try {
+      int[] values = request(count);
+      outcome = "success";
+      return values;
+    } finally {
+      sample.stop(Timer.builder("random.org.requests")
+          .description("Latency of random.org generateIntegers calls")
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  private int[] request(int count) throws IOException, InterruptedException {
+    Map<String, Object> jsonRequest = Map.of(
+        "jsonrpc", "2.0",
+        "method", "generateIntegers",
+        "params", Map.of(
+            "apiKey", randomNumberGeneratorProperty.apiKey(),
+            "n", count,
+            "min", 0,
+            "max", MAX_VALUE,
+            "replacement", true),
+        "id", 1);
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create(randomNumberGeneratorProperty.apiUrl()))
+        .timeout(randomNumberGeneratorProperty.timeout())
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(jsonRequest)))
+        .build();
+
+    HttpResponse<byte[]> response =
+        httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+    if (response.statusCode() != 200) {
+      throw new IOException("random.org answered with HTTP " + response.statusCode());
+    }
+
+    JsonNode responseJson = objectMapper.readTree(response.body());
+
+    if (responseJson.has("error")) {
+      throw new IOException("random.org refused the request: "
+          + responseJson.path("error").path("message").asText());
+    }
+
+    JsonNode randomData = responseJson.path("result").path("random").path("data");
+    int[] values = new int[randomData.size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = randomData.get(i).asInt();
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.random;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer, multi-consumer ring buffer of non-negative ints. Consumers claim a
+ * slot by moving {@code head} with a compare-and-set after reading it, so a value the producer
+ * overwrote in the meantime is never returned: the overwrite implies {@code head} already moved
+ * past that slot and the claim fails.
+ */
+final class RandomPool {
+
+  static final int EMPTY = -1;
+
+  private final int[] slots;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private volatile long tail;
+
+  RandomPool(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+    this.slots = new int[size];
+    this.mask = size - 1;
+  }
+
+  int size() {
+    return (int) (tail - head.get());
+  }
+
+  int capacity() {
+    return slots.length;
+  }
+
+  /**
+   * Producer side; appends as many of the values as fit and returns how many were taken.
+   */
+  int offer(int[] values) {
+    long currentTail = tail;
+    int free = slots.length - (int) (currentTail - head.get());
+    int count = Math.min(free, values.length);
+
+    for (int i = 0; i < count; i++) {
+      slots[(int) (currentTail + i) & mask] = values[i];
+    }
+    tail = currentTail + count;
+
+    return count;
+  }
+
+  int poll() {
+    while (true) {
+      long currentHead = head.get();
+
+      if (currentHead >= tail) {
+        return EMPTY;
+      }
+
+      int value = slots[(int) currentHead & mask];
+
+      if (head.compareAndSet(currentHead, currentHead + 1)) {
+        return value;
+      }
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.random;
+
+public interface RandomSource {
+
+  /**
+   * Returns a uniformly distributed integer between {@code min} and {@code max}, both inclusive.
+   */
+  int nextInt(int min, int max);
+}
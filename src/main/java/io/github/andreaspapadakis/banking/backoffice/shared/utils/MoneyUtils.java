@@ -0,0 +1,161 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.utils;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.InvalidAmountException;
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Arithmetic on amounts held as {@code long} minor units, scaled by the currency's default
+ * fraction digits (cents for EUR, yen for JPY, fils for KWD). Everything but the decimal
+ * conversions at the API boundary stays on primitives, and every operation that could overflow
+ * is checked.
+ */
+public final class MoneyUtils {
+
+  /**
+   * Enough for {@code Long.MIN_VALUE} with a sign and a decimal point.
+   */
+  public static final int MAX_DECIMAL_LENGTH = 21;
+
+  private static final long[] POWERS_OF_TEN = {
+      1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+      1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+      10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+      10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+  };
+
+  private MoneyUtils() {}
+
+  public static int scale(String currency) {
+    // pseudo-currencies such as XAU report -1, they have no minor unit
+    return Math.max(Currency.getInstance(currency).getDefaultFractionDigits(), 0);
+  }
+
+  /**
+   * Exact conversion of a client-supplied amount, rejecting digits the currency cannot hold.
+   */
+  public static long toMinorUnits(BigDecimal amount, String currency) {
+    int scale = scale(currency);
+
+    if (amount.stripTrailingZeros().scale() > scale) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_TOO_PRECISE);
+    }
+
+    try {
+      return amount.movePointRight(scale).longValueExact();
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_OUT_OF_RANGE);
+    }
+  }
+
+  public static long majorToMinorUnits(long majorUnits, String currency) {
+    return multiplyExact(majorUnits, POWERS_OF_TEN[scale(currency)]);
+  }
+
+  public static BigDecimal toDecimal(long minorUnits, String currency) {
+    return BigDecimal.valueOf(minorUnits, scale(currency));
+  }
+
+  public static long add(long minorUnits, long delta) {
+    try {
+      return Math.addExact(minorUnits, delta);
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_OUT_OF_RANGE);
+    }
+  }
+
+  public static long subtract(long minorUnits, long delta) {
+    try {
+      return Math.subtractExact(minorUnits, delta);
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_OUT_OF_RANGE);
+    }
+  }
+
+  public static long negate(long minorUnits) {
+    try {
+      return Math.negateExact(minorUnits);
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_OUT_OF_RANGE);
+    }
+  }
+
+  /**
+   * {@code minorUnits * numerator / denominator}, rounded half-even to a whole minor unit.
+   */
+  public static long multiply(long minorUnits, long numerator, long denominator) {
+    long product = multiplyExact(minorUnits, numerator);
+    long quotient = product / denominator;
+    long twiceRemainder = Math.abs(product % denominator) * 2;
+
+    if (twiceRemainder > denominator
+        || (twiceRemainder == denominator && (quotient & 1) != 0)) {
+      quotient += Long.signum(product);
+    }
+
+    return quotient;
+  }
+
+  /**
+   * Keeps the amount and moves it to the scale of another currency, rounding half-even when
+   * the target has fewer fraction digits.
+   */
+  public static long rescale(long minorUnits, String fromCurrency, String toCurrency) {
+    int difference = scale(toCurrency) - scale(fromCurrency);
+
+    if (difference >= 0) {
+      return multiplyExact(minorUnits, POWERS_OF_TEN[difference]);
+    }
+
+    return multiply(minorUnits, 1, POWERS_OF_TEN[-difference]);
+  }
+
+  /**
+   * Like {@link #rescale}, but rejects an amount the target currency cannot hold without
+   * rounding.
+   */
+  public static long rescaleExact(long minorUnits, String fromCurrency, String toCurrency) {
+    int difference = scale(toCurrency) - scale(fromCurrency);
+
+    if (difference < 0 && minorUnits % POWERS_OF_TEN[-difference] != 0) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_TOO_PRECISE);
+    }
+
+    return rescale(minorUnits, fromCurrency, toCurrency);
+  }
+
+  /**
+   * Writes the decimal form right-aligned into {@code buffer}, which must hold at least
+   * {@link #MAX_DECIMAL_LENGTH} chars, and returns the offset of its first char.
+   */
+  public static int toChars(long minorUnits, int scale, char[] buffer) {
+    int position = buffer.length;
+    long remaining = minorUnits;
+    int digits = 0;
+
+    // least significant digit first; abs of each remainder keeps Long.MIN_VALUE intact
+    do {
+      buffer[--position] = (char) ('0' + Math.abs(remaining % 10));
+      remaining /= 10;
+
+      if (++digits == scale) {
+        buffer[--position] = '.';
+      }
+    } while (remaining != 0 || digits <= scale);
+
+    if (minorUnits < 0) {
+      buffer[--position] = '-';
+    }
+
+    return position;
+  }
+
+  private static long multiplyExact(long minorUnits, long factor) {
+    try {
+      return Math.multiplyExact(minorUnits, factor);
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException(ErrorCode.AMOUNT_OUT_OF_RANGE);
+    }
+  }
+}
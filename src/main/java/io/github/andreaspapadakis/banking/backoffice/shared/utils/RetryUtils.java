@@ -0,0 +1,39 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public final class RetryUtils {
+  private RetryUtils() {}
+
+  /**
+   * Runs the action up to {@code maxAttempts} times while it fails with {@code retryOn},
+   * sleeping an exponentially growing, jittered backoff between attempts.
+   */
+  public static <T> T withBackoff(Supplier<T> action,
+                                  Class<? extends RuntimeException> retryOn,
+                                  int maxAttempts,
+                                  Duration initialBackoff) {
+    long backoffMillis = initialBackoff.toMillis();
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (RuntimeException e) {
+        if (!retryOn.isInstance(e) || attempt >= maxAttempts) {
+          throw e;
+        }
+
+        try {
+          Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1));
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+
+        backoffMillis *= 2;
+      }
+    }
+  }
+}
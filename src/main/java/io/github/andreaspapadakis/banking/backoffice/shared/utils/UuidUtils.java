@@ -0,0 +1,32 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.UUID;
+
+public final class UuidUtils {
+  /**
+   * Unsigned byte order of the {@code BINARY(16)} form, the order the database sorts ids in.
+   */
+  public static final Comparator<UUID> BINARY_ORDER =
+      Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+          .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private UuidUtils() {}
+
+  /**
+   * Big-endian 16-byte form, matching how UUID columns mapped as {@code BINARY(16)} are stored.
+   */
+  public static byte[] toBytes(UUID uuid) {
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  public static UUID fromBytes(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
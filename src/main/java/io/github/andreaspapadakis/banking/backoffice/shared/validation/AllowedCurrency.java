@@ -16,6 +16,7 @@ import java.lang.annotation.Target;
 public @interface AllowedCurrency {
 
   String message() default "{currencyNotSupportedErrorMessage}";
+  String malformedMessage() default "{currencyPatternErrorMessage}";
   Class<?>[] groups() default {};
   Class<? extends Payload>[] payload() default {};
 
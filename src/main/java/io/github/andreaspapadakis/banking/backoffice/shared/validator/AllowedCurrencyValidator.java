@@ -1,23 +1,39 @@
 package io.github.andreaspapadakis.banking.backoffice.shared.validator;
 
-import io.github.andreaspapadakis.banking.backoffice.shared.utils.StringUtils;
 import io.github.andreaspapadakis.banking.backoffice.shared.validation.AllowedCurrency;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.Currency;
 
 public class AllowedCurrencyValidator implements ConstraintValidator<AllowedCurrency, String> {
+
+  private final CurrencyAllowlist currencyAllowlist;
+  private String malformedMessage;
+
+  public AllowedCurrencyValidator(CurrencyAllowlist currencyAllowlist) {
+    this.currencyAllowlist = currencyAllowlist;
+  }
+
+  @Override
+  public void initialize(AllowedCurrency constraintAnnotation) {
+    malformedMessage = constraintAnnotation.malformedMessage();
+  }
+
   @Override
   public boolean isValid(String currency, ConstraintValidatorContext context) {
-    if (StringUtils.isNullOrBlank(currency)) {
-      return true; // @NotBlank should handle null/empty
+    if (currency == null) {
+      return true; // @NotBlank should handle null
     }
 
-    try {
-      Currency.getInstance(currency);
+    if (currencyAllowlist.contains(currency)) {
       return true;
-    } catch (IllegalArgumentException e) {
-      return false;
     }
+
+    // the bitset lookup rejects malformed codes too, so only failures pay for telling them apart
+    if (context != null && !CurrencyAllowlist.isWellFormed(currency)) {
+      context.disableDefaultConstraintViolation();
+      context.buildConstraintViolationWithTemplate(malformedMessage).addConstraintViolation();
+    }
+
+    return false;
   }
 }
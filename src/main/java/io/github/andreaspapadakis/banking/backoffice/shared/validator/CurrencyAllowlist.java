@@ -0,0 +1,69 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.validator;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.CurrencyProperty;
+import java.util.Collection;
+import java.util.Currency;
+import org.springframework.stereotype.Component;
+
+/**
+ * Immutable set of accepted currency codes. Every three-letter code {@code [A-Z]{3}} maps to one
+ * of 26^3 bits, so a lookup checks the format and the membership in a single pass without
+ * allocating.
+ */
+@Component
+public class CurrencyAllowlist {
+
+  private static final int LETTERS = 26;
+  private static final int CODES = LETTERS * LETTERS * LETTERS;
+
+  private final long[] bits = new long[(CODES + Long.SIZE - 1) / Long.SIZE];
+
+  public CurrencyAllowlist(CurrencyProperty currencyProperty) {
+    Collection<String> allowed = currencyProperty.allowed().isEmpty()
+        ? Currency.getAvailableCurrencies().stream().map(Currency::getCurrencyCode).toList()
+        : currencyProperty.allowed();
+
+    for (String code : allowed) {
+      int index = indexOf(code);
+
+      if (index < 0) {
+        throw new IllegalArgumentException("Allowed currency is not a three-letter code: " + code);
+      }
+      // fails fast on codes that are well formed but unknown to ISO-4217
+      Currency.getInstance(code);
+
+      bits[index >>> 6] |= 1L << index;
+    }
+  }
+
+  /**
+   * Returns whether {@code code} is exactly three capital letters, regardless of membership.
+   */
+  public static boolean isWellFormed(String code) {
+    return indexOf(code) >= 0;
+  }
+
+  public boolean contains(String code) {
+    int index = indexOf(code);
+
+    return index >= 0 && (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static int indexOf(String code) {
+    if (code == null || code.length() != 3) {
+      return -1;
+    }
+
+    int index = 0;
+    for (int i = 0; i < 3; i++) {
+      int letter = code.charAt(i) - 'A';
+
+      if (letter < 0 || letter >= LETTERS) {
+        return -1;
+      }
+      index = index * LETTERS + letter;
+    }
+
+    return index;
+  }
+}
@@ -0,0 +1,19 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferResponseDto;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+public interface TransferApi {
+
+  ResponseEntity<TransferResponseDto> transfer(@Valid
+                                               TransferRequest transferRequest);
+
+  ResponseEntity<List<TransferBatchItemResult>> transferBatch(
+      List<TransferRequest> transferRequests);
+}
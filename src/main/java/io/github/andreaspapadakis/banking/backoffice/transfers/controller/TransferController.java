@@ -0,0 +1,39 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.controller;
+
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.transfers.service.TransferService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/transfers")
+@RequiredArgsConstructor
+public class TransferController implements TransferApi {
+  private final TransferService transferService;
+
+  @Override
+  @PostMapping
+  public ResponseEntity<TransferResponseDto> transfer(@RequestBody
+                                                      TransferRequest transferRequest) {
+    TransferResponseDto responseBody = transferService.transfer(transferRequest);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.OK);
+  }
+
+  @Override
+  @PostMapping(value = "/batch")
+  public ResponseEntity<List<TransferBatchItemResult>> transferBatch(
+      @RequestBody List<TransferRequest> transferRequests) {
+    List<TransferBatchItemResult> responseBody = transferService.transferAll(transferRequests);
+
+    return new ResponseEntity<>(responseBody, HttpStatus.MULTI_STATUS);
+  }
+}
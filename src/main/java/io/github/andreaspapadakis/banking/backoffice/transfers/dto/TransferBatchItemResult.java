@@ -0,0 +1,14 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.dto;
+
+public record TransferBatchItemResult(int index,
+                                      TransferResponseDto transfer,
+                                      String error) {
+
+  public static TransferBatchItemResult completed(int index, TransferResponseDto transfer) {
+    return new TransferBatchItemResult(index, transfer, null);
+  }
+
+  public static TransferBatchItemResult failed(int index, String error) {
+    return new TransferBatchItemResult(index, null, error);
+  }
+}
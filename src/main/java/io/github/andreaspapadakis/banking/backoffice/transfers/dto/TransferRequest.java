@@ -0,0 +1,20 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Moves {@code amount}, in the currency of the source account, to the target account. Accounts
+ * in different currencies need {@code convert}, the target is then credited at the current FX
+ * rate.
+ */
+public record TransferRequest(@NotNull(message = "{transferSourceRequiredErrorMessage}")
+                              UUID fromAccountId,
+                              @NotNull(message = "{transferTargetRequiredErrorMessage}")
+                              UUID toAccountId,
+                              @NotNull(message = "{amountRequiredErrorMessage}")
+                              @Positive(message = "{amountPositiveErrorMessage}")
+                              BigDecimal amount,
+                              boolean convert) {}
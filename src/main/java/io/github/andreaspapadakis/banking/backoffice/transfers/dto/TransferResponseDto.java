@@ -0,0 +1,8 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.dto;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import java.math.BigDecimal;
+
+public record TransferResponseDto(AccountResponseDto from,
+                                  AccountResponseDto to,
+                                  BigDecimal creditedAmount) {}
@@ -0,0 +1,11 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.exception;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+
+public class TransferException extends DomainException {
+
+  public TransferException(ErrorCode errorCode) {
+    super(errorCode);
+  }
+}
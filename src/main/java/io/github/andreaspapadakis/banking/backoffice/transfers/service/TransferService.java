@@ -0,0 +1,18 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.service;
+
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferResponseDto;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+public interface TransferService {
+
+  @NotNull
+  TransferResponseDto transfer(TransferRequest transferRequest);
+
+  @NotNull
+  List<TransferBatchItemResult> transferAll(List<TransferRequest> transferRequests);
+}
@@ -0,0 +1,227 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.service;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.AccountNotFoundException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceChangeType;
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceJournal;
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
+import io.github.andreaspapadakis.banking.backoffice.accounts.mapper.AccountMapper;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountCache;
+import io.github.andreaspapadakis.banking.backoffice.fx.exception.FxRateNotFoundException;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRateTable;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRates;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.AccountProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.TransferProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.DomainException;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorMessages;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.RetryUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.transfers.exception.TransferException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves money between two accounts in one transaction. Both rows are locked before either is
+ * changed, always in {@link UuidUtils#BINARY_ORDER}, the order of the primary key, so two
+ * transfers over the same pair, and the debt clearing that locks in index order, never wait on
+ * each other in a cycle.
+ */
+@Service
+@Transactional
+@Timed(value = "transfers.service", histogram = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TransferServiceImpl implements TransferService {
+
+  private final AccountRepository accountRepository;
+  private final AccountMapper accountMapper;
+  private final AccountCache accountCache;
+  private final BalanceJournal balanceJournal;
+  private final BalanceLedger balanceLedger;
+  private final FxRateTable fxRateTable;
+  private final TransactionTemplate transactionTemplate;
+  private final Validator validator;
+  private final ErrorMessages errorMessages;
+  private final AccountProperty accountProperty;
+  private final TransferProperty transferProperty;
+  // shared by every batch; each wave is bounded by app.transfers.batch-parallelism instead
+  private final ExecutorService batchExecutor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("transfer-batch-", 0).factory());
+
+  @PreDestroy
+  void stop() {
+    batchExecutor.shutdownNow();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public TransferResponseDto transfer(TransferRequest transferRequest) {
+    UUID fromId = transferRequest.fromAccountId();
+    UUID toId = transferRequest.toAccountId();
+
+    if (fromId.equals(toId)) {
+      throw new TransferException(ErrorCode.SAME_ACCOUNT_TRANSFER);
+    }
+
+    // hot accounts are handed back to the table, and kept from reloading until the transfer
+    // committed, so the row lock covers their balance
+    return balanceLedger.releaseDuring(List.of(fromId, toId), () -> RetryUtils.withBackoff(
+        () -> transactionTemplate.execute(status -> execute(transferRequest)),
+        TransientDataAccessException.class,
+        accountProperty.balanceUpdateMaxAttempts(),
+        accountProperty.balanceUpdateInitialBackoff()));
+  }
+
+  /**
+   * Runs the batch in waves. A transfer joins the wave after the last one that touched either of
+   * its accounts, so the transfers of a wave share no account and run in parallel, each in its
+   * own transaction, while transfers over the same account keep their order in the batch.
+   */
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<TransferBatchItemResult> transferAll(List<TransferRequest> transferRequests) {
+    if (transferRequests.size() > transferProperty.maxBatchSize()) {
+      throw new TransferException(ErrorCode.TRANSFER_BATCH_TOO_LARGE);
+    }
+
+    TransferBatchItemResult[] results = new TransferBatchItemResult[transferRequests.size()];
+    List<List<Integer>> waves = new ArrayList<>();
+    Map<UUID, Integer> lastWaveByAccount = new HashMap<>();
+
+    for (int index = 0; index < transferRequests.size(); index++) {
+      TransferRequest transferRequest = transferRequests.get(index);
+      Set<ConstraintViolation<TransferRequest>> violations = validator.validate(transferRequest);
+
+      if (!violations.isEmpty()) {
+        results[index] = TransferBatchItemResult.failed(index, violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining(", ")));
+        continue;
+      }
+
+      int wave = Math.max(
+          lastWaveByAccount.getOrDefault(transferRequest.fromAccountId(), -1),
+          lastWaveByAccount.getOrDefault(transferRequest.toAccountId(), -1)) + 1;
+
+      if (wave == waves.size()) {
+        waves.add(new ArrayList<>());
+      }
+      waves.get(wave).add(index);
+      lastWaveByAccount.put(transferRequest.fromAccountId(), wave);
+      lastWaveByAccount.put(transferRequest.toAccountId(), wave);
+    }
+
+    try {
+      for (List<Integer> wave : waves) {
+        int parallelism = Math.min(transferProperty.batchParallelism(), wave.size());
+        // every task works through its own stride of the wave
+        List<Callable<Void>> tasks = IntStream.range(0, parallelism)
+            .mapToObj(offset -> (Callable<Void>) () -> {
+              for (int position = offset; position < wave.size(); position += parallelism) {
+                int index = wave.get(position);
+                results[index] = transferItem(index, transferRequests.get(index));
+              }
+              return null;
+            })
+            .toList();
+
+        batchExecutor.invokeAll(tasks);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running a transfer batch", e);
+    }
+
+    return Arrays.asList(results);
+  }
+
+  private TransferBatchItemResult transferItem(int index, TransferRequest transferRequest) {
+    try {
+      return TransferBatchItemResult.completed(index, transfer(transferRequest));
+    } catch (DomainException e) {
+      return TransferBatchItemResult.failed(index, errorMessages.get(e.getErrorCode()));
+    } catch (RuntimeException e) {
+      // an item never fails the batch, nor leaves its slot empty
+      log.warn("Transfer {} of the batch failed", index, e);
+      return TransferBatchItemResult.failed(index, errorMessages.get(ErrorCode.ITEM_FAILED));
+    }
+  }
+
+  private TransferResponseDto execute(TransferRequest transferRequest) {
+    UUID fromId = transferRequest.fromAccountId();
+    UUID toId = transferRequest.toAccountId();
+    boolean fromFirst = UuidUtils.BINARY_ORDER.compare(fromId, toId) < 0;
+
+    Account first = lock(fromFirst ? fromId : toId);
+    Account second = lock(fromFirst ? toId : fromId);
+    Account from = fromFirst ? first : second;
+    Account to = fromFirst ? second : first;
+
+    long debited = MoneyUtils.toMinorUnits(transferRequest.amount(), from.getCurrency());
+    long credited = from.getCurrency().equals(to.getCurrency())
+        ? debited
+        : convert(debited, from.getCurrency(), to.getCurrency(), transferRequest.convert());
+
+    from.setBalance(MoneyUtils.subtract(from.getBalance(), debited));
+    to.setBalance(MoneyUtils.add(to.getBalance(), credited));
+
+    balanceJournal.record(fromId, BalanceChangeType.TRANSFERRED_OUT, -debited,
+        from.getCurrency());
+    balanceJournal.record(toId, BalanceChangeType.TRANSFERRED_IN, credited, to.getCurrency());
+    accountCache.invalidate(List.of(fromId, toId));
+
+    return new TransferResponseDto(accountMapper.mapAllData(from), accountMapper.mapAllData(to),
+        MoneyUtils.toDecimal(credited, to.getCurrency()));
+  }
+
+  private Account lock(UUID id) {
+    return accountRepository.lockById(id).orElseThrow(AccountNotFoundException::new);
+  }
+
+  private long convert(long debited, String fromCurrency, String toCurrency, boolean convert) {
+    if (!convert) {
+      throw new TransferException(ErrorCode.TRANSFER_CURRENCY_MISMATCH);
+    }
+
+    FxRates rates = fxRateTable.current();
+
+    if (!rates.quotes(fromCurrency) || !rates.quotes(toCurrency)) {
+      throw new FxRateNotFoundException();
+    }
+
+    BigDecimal converted = rates.convert(MoneyUtils.toDecimal(debited, fromCurrency),
+        fromCurrency, toCurrency);
+
+    return MoneyUtils.toMinorUnits(
+        converted.setScale(MoneyUtils.scale(toCurrency), RoundingMode.HALF_EVEN), toCurrency);
+  }
+}
@@ -0,0 +1,16 @@
+-- Moves ACCOUNTS.ID from a UUID / CHAR(36) column to BINARY(16).
+-- Run once against an existing database while the application is stopped; ddl-auto=update
+-- never alters the type of an existing column. Existing random ids are kept as they are,
+-- only new accounts get time-ordered ids.
+DROP INDEX IF EXISTS IDX_ACCOUNTS_CREATED_AT_ID;
+
+ALTER TABLE ACCOUNTS ADD COLUMN ID_BIN BINARY(16);
+UPDATE ACCOUNTS SET ID_BIN = CAST(CAST(ID AS UUID) AS BINARY(16));
+
+ALTER TABLE ACCOUNTS DROP PRIMARY KEY;
+ALTER TABLE ACCOUNTS DROP COLUMN ID;
+ALTER TABLE ACCOUNTS ALTER COLUMN ID_BIN RENAME TO ID;
+ALTER TABLE ACCOUNTS ALTER COLUMN ID SET NOT NULL;
+ALTER TABLE ACCOUNTS ADD PRIMARY KEY (ID);
+
+CREATE INDEX IDX_ACCOUNTS_CREATED_AT_ID ON ACCOUNTS (CREATED_AT, ID);
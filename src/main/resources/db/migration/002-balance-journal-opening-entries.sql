@@ -0,0 +1,8 @@
+-- Opens the balance journal for accounts created before it existed.
+-- Run once after the first start with the journal, which creates BALANCE_JOURNAL through
+-- ddl-auto=update. Every existing account gets an OPENED entry carrying its current balance,
+-- so as-of queries answer from the moment of the migration onwards.
+INSERT INTO BALANCE_JOURNAL (ID, ACCOUNT_ID, RECORDED_AT, TYPE, DELTA, CURRENCY)
+SELECT NEXT VALUE FOR BALANCE_JOURNAL_SEQ, A.ID, CURRENT_TIMESTAMP, 'OPENED', A.BALANCE, A.CURRENCY
+FROM ACCOUNTS A
+WHERE NOT EXISTS (SELECT 1 FROM BALANCE_JOURNAL J WHERE J.ACCOUNT_ID = A.ID);
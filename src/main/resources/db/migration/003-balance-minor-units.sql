@@ -0,0 +1,50 @@
+-- Moves balances and journal deltas from DOUBLE to BIGINT minor units, scaled by the default
+-- fraction digits of the currency (java.util.Currency). Run once while the application is
+-- stopped and after the balance ledger has been drained by a clean shutdown of the previous
+-- version; ddl-auto=update never alters the type of an existing column.
+-- The CASE lists every code java.util.Currency gives other than 2 fraction digits on JDK 21,
+-- pseudo-currencies included, the way MoneyUtils.scale reads them (MoneyUtilsTests checks it);
+-- UYW is newer than that currency data and listed for later runtimes.
+-- RMB is not an ISO 4217 code, accounts holding it move to CNY first.
+UPDATE ACCOUNTS SET CURRENCY = 'CNY' WHERE CURRENCY = 'RMB';
+UPDATE BALANCE_JOURNAL SET CURRENCY = 'CNY' WHERE CURRENCY = 'RMB';
+
+DROP INDEX IF EXISTS IDX_ACCOUNTS_CURRENCY_BALANCE;
+DROP INDEX IF EXISTS IDX_ACCOUNTS_BALANCE;
+
+ALTER TABLE ACCOUNTS ADD COLUMN BALANCE_MINOR BIGINT;
+UPDATE ACCOUNTS SET BALANCE_MINOR = ROUND(BALANCE * CASE
+    WHEN CURRENCY IN ('ADP', 'BEF', 'BIF', 'BYB', 'BYR', 'CLP', 'DJF', 'ESP', 'GNF', 'GRD', 'ISK',
+                      'ITL', 'JPY', 'KMF', 'KRW', 'LUF', 'MGF', 'PTE', 'PYG', 'ROL', 'RWF', 'TPE',
+                      'TRL', 'UGX', 'UYI', 'VND', 'VUV', 'XAF', 'XAG', 'XAU', 'XBA', 'XBB', 'XBC',
+                      'XBD', 'XDR', 'XFO', 'XFU', 'XOF', 'XPD', 'XPF', 'XPT', 'XSU', 'XTS', 'XUA',
+                      'XXX') THEN 1
+    WHEN CURRENCY IN ('BHD', 'IQD', 'JOD', 'KWD', 'LYD', 'OMR', 'TND') THEN 1000
+    WHEN CURRENCY IN ('CLF', 'UYW') THEN 10000
+    ELSE 100
+  END);
+ALTER TABLE ACCOUNTS DROP COLUMN BALANCE;
+ALTER TABLE ACCOUNTS ALTER COLUMN BALANCE_MINOR RENAME TO BALANCE;
+ALTER TABLE ACCOUNTS ALTER COLUMN BALANCE SET NOT NULL;
+
+CREATE INDEX IDX_ACCOUNTS_CURRENCY_BALANCE ON ACCOUNTS (CURRENCY, BALANCE);
+CREATE INDEX IDX_ACCOUNTS_BALANCE ON ACCOUNTS (BALANCE);
+
+ALTER TABLE BALANCE_JOURNAL ADD COLUMN DELTA_MINOR BIGINT;
+UPDATE BALANCE_JOURNAL SET DELTA_MINOR = ROUND(DELTA * CASE
+    WHEN CURRENCY IN ('ADP', 'BEF', 'BIF', 'BYB', 'BYR', 'CLP', 'DJF', 'ESP', 'GNF', 'GRD', 'ISK',
+                      'ITL', 'JPY', 'KMF', 'KRW', 'LUF', 'MGF', 'PTE', 'PYG', 'ROL', 'RWF', 'TPE',
+                      'TRL', 'UGX', 'UYI', 'VND', 'VUV', 'XAF', 'XAG', 'XAU', 'XBA', 'XBB', 'XBC',
+                      'XBD', 'XDR', 'XFO', 'XFU', 'XOF', 'XPD', 'XPF', 'XPT', 'XSU', 'XTS', 'XUA',
+                      'XXX') THEN 1
+    WHEN CURRENCY IN ('BHD', 'IQD', 'JOD', 'KWD', 'LYD', 'OMR', 'TND') THEN 1000
+    WHEN CURRENCY IN ('CLF', 'UYW') THEN 10000
+    ELSE 100
+  END);
+ALTER TABLE BALANCE_JOURNAL DROP COLUMN DELTA;
+ALTER TABLE BALANCE_JOURNAL ALTER COLUMN DELTA_MINOR RENAME TO DELTA;
+ALTER TABLE BALANCE_JOURNAL ALTER COLUMN DELTA SET NOT NULL;
+
+-- snapshots carry no currency; they are rebuilt from the journal by the next snapshot run
+DELETE FROM BALANCE_SNAPSHOTS;
+ALTER TABLE BALANCE_SNAPSHOTS ALTER COLUMN BALANCE SET DATA TYPE BIGINT;
@@ -0,0 +1,9 @@
+-- Records which snapshot covers each journal entry, for journals snapshotted by time window.
+-- Run once after the first start of this version, which adds BALANCE_JOURNAL.SNAPSHOT_AT
+-- through ddl-auto=update, and before its first snapshot. An entry is claimed by the first
+-- snapshot of its account taken at or after it was recorded; entries without one stay open and
+-- go into the next snapshot.
+UPDATE BALANCE_JOURNAL J
+SET SNAPSHOT_AT = (SELECT MIN(S.TAKEN_AT) FROM BALANCE_SNAPSHOTS S
+                   WHERE S.ACCOUNT_ID = J.ACCOUNT_ID AND S.TAKEN_AT >= J.RECORDED_AT)
+WHERE SNAPSHOT_AT IS NULL;
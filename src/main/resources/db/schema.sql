@@ -0,0 +1,37 @@
+-- Baseline schema for profiles that run with ddl-auto=none, matching the entity mappings after
+-- db/migration 001-004. Every statement is a no-op on a database that already has the object,
+-- so it is safe to run on every start; upgrades of an existing schema still go through
+-- db/migration.
+CREATE TABLE IF NOT EXISTS ACCOUNTS (
+    ID BINARY(16) NOT NULL PRIMARY KEY,
+    BALANCE BIGINT NOT NULL,
+    CURRENCY VARCHAR(3),
+    CREATED_AT TIMESTAMP(6)
+);
+CREATE INDEX IF NOT EXISTS IDX_ACCOUNTS_CREATED_AT_ID ON ACCOUNTS (CREATED_AT, ID);
+CREATE INDEX IF NOT EXISTS IDX_ACCOUNTS_CURRENCY_BALANCE ON ACCOUNTS (CURRENCY, BALANCE);
+CREATE INDEX IF NOT EXISTS IDX_ACCOUNTS_BALANCE ON ACCOUNTS (BALANCE);
+
+CREATE SEQUENCE IF NOT EXISTS BALANCE_JOURNAL_SEQ START WITH 1 INCREMENT BY 100;
+CREATE TABLE IF NOT EXISTS BALANCE_JOURNAL (
+    ID BIGINT NOT NULL PRIMARY KEY,
+    ACCOUNT_ID BINARY(16) NOT NULL,
+    RECORDED_AT TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    TYPE VARCHAR(16) NOT NULL,
+    DELTA BIGINT NOT NULL,
+    CURRENCY VARCHAR(3),
+    SNAPSHOT_AT TIMESTAMP(6) WITH TIME ZONE
+);
+CREATE INDEX IF NOT EXISTS IDX_BALANCE_JOURNAL_ACCOUNT_RECORDED_AT
+    ON BALANCE_JOURNAL (ACCOUNT_ID, RECORDED_AT);
+CREATE INDEX IF NOT EXISTS IDX_BALANCE_JOURNAL_RECORDED_AT ON BALANCE_JOURNAL (RECORDED_AT);
+CREATE INDEX IF NOT EXISTS IDX_BALANCE_JOURNAL_ACCOUNT_SNAPSHOT_AT
+    ON BALANCE_JOURNAL (ACCOUNT_ID, SNAPSHOT_AT);
+CREATE INDEX IF NOT EXISTS IDX_BALANCE_JOURNAL_SNAPSHOT_AT ON BALANCE_JOURNAL (SNAPSHOT_AT);
+
+CREATE TABLE IF NOT EXISTS BALANCE_SNAPSHOTS (
+    ACCOUNT_ID BINARY(16) NOT NULL,
+    TAKEN_AT TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    BALANCE BIGINT NOT NULL,
+    PRIMARY KEY (ACCOUNT_ID, TAKEN_AT)
+);
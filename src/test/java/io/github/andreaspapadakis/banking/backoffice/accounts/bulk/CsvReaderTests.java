@@ -0,0 +1,57 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTests {
+
+  @Test
+  void quotedFieldsKeepTheirSeparatorsAndLineBreaks() throws IOException {
+    List<List<String>> records = readAll("id,note,currency\r\n"
+        + "1,\"owes \"\"a lot\"\", pays late\",EUR\r\n"
+        + "2,\"two\nlines\",USD\n");
+
+    assertEquals(List.of(
+        List.of("id", "note", "currency"),
+        List.of("1", "owes \"a lot\", pays late", "EUR"),
+        List.of("2", "two\nlines", "USD")), records);
+  }
+
+  @Test
+  void emptyFieldsAndLinesAreKept() throws IOException {
+    assertEquals(List.of(List.of("", "", ""), List.of(""), List.of("\"a")),
+        readAll(",,\n\n\"\"\"a\""));
+  }
+
+  @Test
+  void malformedRecordsReadAsEmptyWithoutLosingTheNextOne() throws IOException {
+    assertEquals(List.of(List.of(), List.of("1", "EUR"), List.of()),
+        readAll("\"EUR\"x,1\n1,EUR\n2,\"USD"));
+  }
+
+  @Test
+  void recordsMaySpanTheReadBuffer() throws IOException {
+    CsvReader reader = new CsvReader(new StringReader("\"a,b\",c\r\nd"), 2);
+
+    assertEquals(List.of("a,b", "c"), reader.readRecord());
+    assertEquals(List.of("d"), reader.readRecord());
+    assertNull(reader.readRecord());
+  }
+
+  private static List<List<String>> readAll(String csv) throws IOException {
+    CsvReader reader = new CsvReader(new StringReader(csv), 64);
+    List<List<String>> records = new ArrayList<>();
+
+    for (List<String> values = reader.readRecord(); values != null;
+        values = reader.readRecord()) {
+      records.add(values);
+    }
+    return records;
+  }
+}
@@ -0,0 +1,183 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountCreateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountUpdateRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceAsOfDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.BalanceSnapshot;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.BalanceJournalRepository;
+import io.github.andreaspapadakis.banking.backoffice.accounts.service.AccountService;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Takes every snapshot itself; the scheduled one is an hour away.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:journal-tests;DB_CLOSE_DELAY=-1;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.journal.snapshot-interval=1h"
+})
+class BalanceJournalTests {
+
+  @Autowired
+  private BalanceJournal balanceJournal;
+  @Autowired
+  private BalanceJournalRepository balanceJournalRepository;
+  @Autowired
+  private AccountService accountService;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private UUID account;
+
+  @BeforeEach
+  void pickAccountId() {
+    account = UUID.randomUUID();
+  }
+
+  @Test
+  void balanceAsOfAddsTheUnclaimedEntriesToTheLatestSnapshot() throws InterruptedException {
+    Instant beforeOpening = tick();
+    balanceJournal.record(account, BalanceChangeType.OPENED, 1_000, "EUR");
+    Instant opened = tick();
+    Instant firstCut = snapshot();
+    Instant afterFirstCut = tick();
+    balanceJournal.record(account, BalanceChangeType.CREDITED, 500, "EUR");
+    Instant credited = tick();
+    Instant secondCut = snapshot();
+    balanceJournal.record(account, BalanceChangeType.DEBITED, -200, "EUR");
+    Instant debited = tick();
+
+    assertEquals(Optional.empty(), balanceJournal.balanceAsOf(account, beforeOpening));
+    assertBalance("10.00", "EUR", opened);
+    assertBalance("10.00", "EUR", firstCut);
+    assertBalance("10.00", "EUR", afterFirstCut);
+    assertBalance("15.00", "EUR", credited);
+    assertBalance("15.00", "EUR", secondCut);
+    assertBalance("13.00", "EUR", debited);
+
+    assertEquals(1_000, snapshotBalance(firstCut));
+    assertEquals(1_500, snapshotBalance(secondCut));
+  }
+
+  @Test
+  void anEntryInFlightDuringASnapshotIsClaimedByTheNext() throws InterruptedException {
+    balanceJournal.record(account, BalanceChangeType.OPENED, 1_000, "EUR");
+    tick();
+
+    // the credit is stamped before the snapshot but only inserted when its transaction commits,
+    // after the snapshot that ran alongside it
+    Instant[] firstCut = new Instant[1];
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      balanceJournal.record(account, BalanceChangeType.CREDITED, 500, "EUR");
+      firstCut[0] = CompletableFuture.supplyAsync(this::snapshot).join();
+    });
+    Instant committed = tick();
+
+    assertEquals(1_000, snapshotBalance(firstCut[0]));
+    assertEquals(500, balanceJournalRepository.sumUnclaimedDeltas(account, firstCut[0],
+        committed));
+    assertBalance("15.00", "EUR", committed);
+
+    Instant secondCut = snapshot();
+
+    assertEquals(1_500, snapshotBalance(secondCut));
+    assertEquals(0, balanceJournalRepository.sumUnclaimedDeltas(account, secondCut, tick()));
+    assertBalance("15.00", "EUR", tick());
+  }
+
+  @Test
+  void sumUnclaimedDeltasSkipsWhatTheSnapshotClaimedAndWhatCameAfterAsOf()
+      throws InterruptedException {
+    balanceJournal.record(account, BalanceChangeType.OPENED, 1_000, "EUR");
+    Instant cut = snapshot();
+    balanceJournal.record(account, BalanceChangeType.CREDITED, 300, "EUR");
+    Instant credited = tick();
+    balanceJournal.record(account, BalanceChangeType.DEBITED, -50, "EUR");
+    Instant debited = tick();
+
+    assertEquals(1_300, balanceJournalRepository.sumUnclaimedDeltas(account, Instant.EPOCH,
+        credited));
+    assertEquals(300, balanceJournalRepository.sumUnclaimedDeltas(account, cut, credited));
+    assertEquals(250, balanceJournalRepository.sumUnclaimedDeltas(account, cut, debited));
+    assertEquals(0, balanceJournalRepository.sumUnclaimedDeltas(UUID.randomUUID(), cut,
+        debited));
+  }
+
+  @Test
+  void aClosedAccountHasNoBalanceFromItsClosingOn() throws InterruptedException {
+    balanceJournal.record(account, BalanceChangeType.OPENED, 1_000, "EUR");
+    snapshot();
+    Instant open = tick();
+    balanceJournal.record(account, BalanceChangeType.CLOSED, -1_000, "EUR");
+    Instant closed = tick();
+    snapshot();
+
+    assertBalance("10.00", "EUR", open);
+    assertEquals(Optional.empty(), balanceJournal.balanceAsOf(account, closed));
+    assertEquals(Optional.empty(), balanceJournal.balanceAsOf(account, tick()));
+  }
+
+  @Test
+  void aCurrencyChangeIsReplayedInTheNewCurrency() throws InterruptedException {
+    account = accountService.save(new AccountCreateRequest("EUR")).id();
+    accountService.update(account, new AccountUpdateRequest(new BigDecimal("10.00"), null));
+    Instant inEuros = tick();
+    snapshot();
+    accountService.update(account, new AccountUpdateRequest(null, "JPY"));
+    Instant inYen = tick();
+
+    assertBalance("10.00", "EUR", inEuros);
+    assertBalance("10", "JPY", inYen);
+
+    snapshot();
+
+    assertBalance("10.00", "EUR", inEuros);
+    assertBalance("10", "JPY", tick());
+  }
+
+  private Instant snapshot() {
+    balanceJournal.snapshot();
+
+    return balanceJournalRepository.findLastSnapshotTime();
+  }
+
+  private long snapshotBalance(Instant takenAt) {
+    List<BalanceSnapshot> snapshot =
+        balanceJournalRepository.findLatestSnapshot(account, takenAt, Limit.of(1));
+
+    assertTrue(!snapshot.isEmpty() && snapshot.getFirst().getTakenAt().equals(takenAt));
+
+    return snapshot.getFirst().getBalance();
+  }
+
+  private void assertBalance(String balance, String currency, Instant asOf) {
+    BalanceAsOfDto balanceAsOf = balanceJournal.balanceAsOf(account, asOf).orElseThrow();
+
+    assertEquals(new BigDecimal(balance), balanceAsOf.balance());
+    assertEquals(currency, balanceAsOf.currency());
+  }
+
+  // an instant strictly between what came before and what comes after
+  private static Instant tick() throws InterruptedException {
+    Thread.sleep(2);
+    Instant now = Instant.now();
+    Thread.sleep(2);
+
+    return now;
+  }
+}
@@ -0,0 +1,150 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.journal.BalanceJournal;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.LedgerProperty;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs ledgers of its own against the application's database, so each test controls when they
+ * start, flush and die.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:ledger-tests;DB_CLOSE_DELAY=-1;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BalanceLedgerTests {
+
+  private static final int WRITERS = 8;
+  private static final int CREDITS_PER_WRITER = 500;
+  private static final int TABLE_CREDITS = 50;
+
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private BalanceJournal balanceJournal;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @TempDir
+  Path journalDirectory;
+
+  private UUID hotAccount;
+
+  @BeforeEach
+  void createHotAccount() {
+    hotAccount = UUID.randomUUID();
+    accountRepository.save(new Account(hotAccount, 0, "EUR", null));
+  }
+
+  @Test
+  void creditsRacingReleasesAreNeitherLostNorCountedTwice() throws Exception {
+    BalanceLedger ledger = startLedger();
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    ExecutorService writers = Executors.newFixedThreadPool(WRITERS + 1);
+
+    try {
+      List<Future<?>> done = new ArrayList<>();
+      for (int writer = 0; writer < WRITERS; writer++) {
+        done.add(writers.submit(() -> {
+          for (int credit = 0; credit < CREDITS_PER_WRITER; credit++) {
+            ledger.apply(hotAccount, cents(1));
+          }
+        }));
+      }
+      // a writer that goes to the table, the way transfers and debt clearing do
+      done.add(writers.submit(() -> {
+        for (int credit = 0; credit < TABLE_CREDITS; credit++) {
+          ledger.releaseDuring(List.of(hotAccount), () -> transactionTemplate.execute(
+              status -> accountRepository.addToBalance(hotAccount, 1000, "EUR")));
+          ledger.flush();
+        }
+      }));
+
+      for (Future<?> writer : done) {
+        writer.get(1, TimeUnit.MINUTES);
+      }
+      ledger.flush();
+    } finally {
+      writers.shutdownNow();
+      ledger.stop();
+    }
+
+    assertEquals(WRITERS * CREDITS_PER_WRITER + TABLE_CREDITS * 1000L, tableBalance());
+  }
+
+  @Test
+  void acknowledgedBalancesSurviveACrashBeforeTheFlush() throws Exception {
+    BalanceLedger crashed = startLedger();
+    crashed.apply(hotAccount, cents(500));
+    crashed.apply(hotAccount, cents(700));
+
+    assertEquals(0, tableBalance());
+
+    // the crashed ledger never flushed, its journal is all that knows about the credits
+    BalanceLedger restarted = startLedger();
+    try {
+      assertEquals(1200, tableBalance());
+      assertEquals(1300, restarted.apply(hotAccount, cents(100)).balance());
+    } finally {
+      restarted.stop();
+    }
+  }
+
+  @Test
+  void mutationsFailOnceTheLedgerIsStopped() throws Exception {
+    BalanceLedger ledger = startLedger();
+    ledger.apply(hotAccount, cents(100));
+    ledger.stop();
+
+    assertEquals(100, tableBalance());
+    assertThrows(IllegalStateException.class, () -> ledger.apply(hotAccount, cents(100)));
+  }
+
+  private BalanceLedger startLedger() throws Exception {
+    LedgerProperty ledgerProperty = new LedgerProperty(true, Set.of(hotAccount),
+        Duration.ofHours(1), 500, journalDirectory);
+    BalanceLedger ledger = new BalanceLedger(ledgerProperty, accountRepository, jdbcTemplate,
+        transactionManager, balanceJournal, entityManagerFactory);
+    ledger.start();
+
+    return ledger;
+  }
+
+  private static BigDecimal cents(long cents) {
+    return BigDecimal.valueOf(cents, 2);
+  }
+
+  private long tableBalance() {
+    return jdbcTemplate.queryForObject("select balance from ACCOUNTS where id = ?", Long.class,
+        (Object) UuidUtils.toBytes(hotAccount));
+  }
+}
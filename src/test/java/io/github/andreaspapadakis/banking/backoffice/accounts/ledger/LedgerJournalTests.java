@@ -0,0 +1,90 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LedgerJournalTests {
+
+  private static final int RECORD_SIZE = 4 * Long.BYTES + Integer.BYTES;
+
+  private final UUID first = UUID.randomUUID();
+  private final UUID second = UUID.randomUUID();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void replayKeepsTheLatestVersionPerAccount() throws IOException {
+    LedgerJournal journal = new LedgerJournal(directory);
+    journal.start();
+    journal.append(new LedgerEntry(first, 1, 100)).join();
+    journal.append(new LedgerEntry(second, 3, 300)).join();
+    journal.rotate().join();
+    journal.append(new LedgerEntry(first, 4, 400)).join();
+    // written later but older, the way an entry of a slower writer can land
+    journal.append(new LedgerEntry(second, 2, 200)).join();
+    journal.stop();
+
+    Map<UUID, Long> balances = balances(journal.replay(journal.sealedSegments()));
+
+    assertEquals(Map.of(first, 400L, second, 300L), balances);
+  }
+
+  @Test
+  void replaySkipsTornAndCorruptRecords() throws IOException {
+    LedgerJournal journal = new LedgerJournal(directory);
+    journal.start();
+    journal.append(new LedgerEntry(first, 1, 100)).join();
+    journal.append(new LedgerEntry(first, 2, 200)).join();
+    journal.append(new LedgerEntry(second, 3, 300)).join();
+    journal.stop();
+
+    Path segment = journal.sealedSegments().getFirst();
+    byte[] records = Files.readAllBytes(segment);
+    // the second record's balance no longer matches its checksum, the third lost its tail
+    records[RECORD_SIZE + 3 * Long.BYTES] ^= 1;
+    Files.write(segment, Arrays.copyOf(records, 3 * RECORD_SIZE - 1),
+        StandardOpenOption.TRUNCATE_EXISTING);
+
+    Map<UUID, Long> balances = balances(journal.replay(List.of(segment)));
+
+    assertEquals(Map.of(first, 100L), balances);
+  }
+
+  @Test
+  void appendAfterStopFailsRightAway() throws IOException {
+    LedgerJournal journal = new LedgerJournal(directory);
+    journal.start();
+    journal.stop();
+
+    CompletionException refused = assertThrows(CompletionException.class,
+        () -> journal.append(new LedgerEntry(first, 1, 100))
+            .orTimeout(1, TimeUnit.SECONDS)
+            .join());
+
+    assertTrue(refused.getCause() instanceof IllegalStateException);
+    assertThrows(CompletionException.class,
+        () -> journal.rotate().orTimeout(1, TimeUnit.SECONDS).join());
+  }
+
+  private static Map<UUID, Long> balances(Collection<LedgerEntry> entries) {
+    return entries.stream()
+        .collect(Collectors.toMap(LedgerEntry::accountId, LedgerEntry::balance));
+  }
+}
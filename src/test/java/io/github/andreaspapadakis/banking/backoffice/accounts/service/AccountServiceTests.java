@@ -0,0 +1,148 @@
+package io.github.andreaspapadakis.banking.backoffice.accounts.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.AccountResponseDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.BalanceChangeRequest;
+import io.github.andreaspapadakis.banking.backoffice.accounts.dto.CurrencySummaryDto;
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.AccountNotFoundException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.exception.RussianRouletteException;
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.random.RandomSource;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.MoneyUtils;
+import io.github.andreaspapadakis.banking.backoffice.shared.utils.UuidUtils;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:account-tests;DB_CLOSE_DELAY=-1;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AccountServiceTests {
+
+  // enough to be allowed at the table
+  private static final long STAKE = MoneyUtils.majorToMinorUnits(100_000, "EUR");
+
+  @Autowired
+  private AccountService accountService;
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @MockitoBean
+  private RandomSource randomSource;
+
+  private UUID player;
+
+  @BeforeEach
+  void seatPlayer() {
+    player = UUID.randomUUID();
+    accountRepository.save(new Account(player, STAKE, "EUR", null));
+  }
+
+  @Test
+  void passingOutEmptiesTheAccount() {
+    when(randomSource.nextInt(anyInt(), anyInt())).thenReturn(0, 10);
+
+    accountService.russianRoulette(player);
+
+    assertEquals(0, accountRepository.findById(player).orElseThrow().getBalance());
+  }
+
+  @Test
+  void aCurrencyChangeDuringTheDrawVoidsTheRound() {
+    // same minor units, another currency of the same scale: only the currency tells them apart
+    when(randomSource.nextInt(anyInt(), anyInt())).thenAnswer(draw -> {
+      jdbcTemplate.update("update ACCOUNTS set currency = 'USD' where id = ?",
+          (Object) UuidUtils.toBytes(player));
+      return 0;
+    });
+
+    RussianRouletteException voided = assertThrows(RussianRouletteException.class,
+        () -> accountService.russianRoulette(player));
+
+    assertEquals(ErrorCode.BALANCE_CHANGED_DURING_ROULETTE, voided.getErrorCode());
+    Account account = accountRepository.findById(player).orElseThrow();
+    assertEquals(STAKE, account.getBalance());
+    assertEquals("USD", account.getCurrency());
+  }
+
+  @Test
+  void aBalanceChangeDuringTheDrawVoidsTheRound() {
+    when(randomSource.nextInt(anyInt(), anyInt())).thenAnswer(draw -> {
+      jdbcTemplate.update("update ACCOUNTS set balance = balance + 1 where id = ?",
+          (Object) UuidUtils.toBytes(player));
+      return 0;
+    });
+
+    assertThrows(RussianRouletteException.class, () -> accountService.russianRoulette(player));
+    assertEquals(STAKE + 2, accountRepository.findById(player).orElseThrow().getBalance());
+  }
+
+  @Test
+  void aCreditIsScaledByTheCurrencyTheRowHolds() {
+    accountService.getAccountById(player);
+    // the cached view still says EUR
+    jdbcTemplate.update("update ACCOUNTS set currency = 'JPY', balance = 1000 where id = ?",
+        (Object) UuidUtils.toBytes(player));
+
+    AccountResponseDto credited =
+        accountService.credit(player, new BalanceChangeRequest(new BigDecimal("5")));
+
+    assertEquals(1_005, credited.balance());
+    assertEquals("JPY", credited.currency());
+    assertEquals(1_005, accountRepository.findById(player).orElseThrow().getBalance());
+  }
+
+  @Test
+  void aCreditOfAMissingAccountFails() {
+    assertThrows(AccountNotFoundException.class, () ->
+        accountService.credit(UUID.randomUUID(), new BalanceChangeRequest(BigDecimal.ONE)));
+  }
+
+  @Test
+  void balanceExtremesArePerCurrency() {
+    accountRepository.save(new Account(UUID.randomUUID(), -500, "CHF", null));
+    accountRepository.save(new Account(UUID.randomUUID(), 700, "CHF", null));
+    accountRepository.save(new Account(UUID.randomUUID(), 300, "CHF", null));
+    accountRepository.save(new Account(UUID.randomUUID(), 900, "GBP", null));
+
+    assertEquals(-500, accountRepository.findMinBalance("CHF"));
+    assertEquals(700, accountRepository.findMaxBalance("CHF"));
+    assertNull(accountRepository.findMinBalance("SEK"));
+  }
+
+  @Test
+  void summariesCountWritesOfOtherReplicas() {
+    UUID account = UUID.randomUUID();
+    accountRepository.save(new Account(account, 250, "NOK", null));
+    accountRepository.save(new Account(UUID.randomUUID(), -100, "NOK", null));
+    // written past this instance, the way another replica would
+    jdbcTemplate.update("insert into ACCOUNTS (id, balance, currency) values (?, 400, 'NOK')",
+        (Object) UuidUtils.toBytes(UUID.randomUUID()));
+    jdbcTemplate.update("update ACCOUNTS set balance = 50 where id = ?",
+        (Object) UuidUtils.toBytes(account));
+
+    CurrencySummaryDto summary = accountService.getCurrencySummaries().stream()
+        .filter(totals -> totals.currency().equals("NOK"))
+        .findFirst()
+        .orElseThrow();
+
+    assertEquals(3, summary.count());
+    assertEquals(new BigDecimal("3.50"), summary.sum());
+    assertEquals(new BigDecimal("-1.00"), summary.min());
+    assertEquals(new BigDecimal("4.00"), summary.max());
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.config.ConcurrencyProperty;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseConcurrencyLimiterTests {
+
+  private DataSource dataSource;
+
+  @BeforeEach
+  void limitToOnePermit() throws SQLException {
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+    dataSource = (DataSource) new DatabaseConcurrencyLimiter(new ConcurrencyProperty(1,
+        Duration.ofMillis(100), false, Duration.ofMillis(20)))
+        .postProcessAfterInitialization(target, "dataSource");
+  }
+
+  @Test
+  void aNestedConnectionReusesTheThreadsPermit() throws Exception {
+    try (Connection outer = dataSource.getConnection()) {
+      try (Connection nested = dataSource.getConnection()) {
+        assertNotEquals(outer, nested);
+      }
+
+      // the outer connection still holds the only permit
+      CompletionException blocked = assertThrows(CompletionException.class,
+          () -> CompletableFuture.runAsync(this::openAndClose).join());
+      assertEquals(SQLTransientConnectionException.class, blocked.getCause().getCause().getClass());
+    }
+
+    CompletableFuture.runAsync(this::openAndClose).join();
+  }
+
+  @Test
+  void aConnectionEqualsOnlyItself() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      assertEquals(connection, connection);
+      assertEquals(System.identityHashCode(connection), connection.hashCode());
+    }
+  }
+
+  private void openAndClose() {
+    try {
+      dataSource.getConnection().close();
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.ledger.BalanceLedger;
+import io.github.andreaspapadakis.banking.backoffice.fx.rates.FxRateTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.mock.env.MockEnvironment;
+
+class LazyInitializationConfigTests {
+
+  @Test
+  void theLedgerIsEagerOnlyWhenEnabled() {
+    LazyInitializationExcludeFilter disabled =
+        LazyInitializationConfig.eagerBeans(new MockEnvironment());
+    LazyInitializationExcludeFilter enabled = LazyInitializationConfig.eagerBeans(
+        new MockEnvironment().withProperty("app.ledger.enabled", "true"));
+
+    assertFalse(isExcluded(disabled, BalanceLedger.class));
+    assertTrue(isExcluded(enabled, BalanceLedger.class));
+    assertTrue(isExcluded(disabled, FxRateTable.class));
+  }
+
+  private static boolean isExcluded(LazyInitializationExcludeFilter filter, Class<?> beanType) {
+    return filter.isExcluded("bean", new RootBeanDefinition(), beanType);
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.test.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-budget-tests;DB_CLOSE_DELAY=-1;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.query-budget.enabled=true"
+})
+class QueryBudgetFilterTests {
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void aStreamedResponseCountsTheStatementsOfItsAsyncTask() throws Exception {
+    accountRepository.save(new Account(UUID.randomUUID(), 1_000, "EUR", null));
+
+    HttpResponse<String> response = HttpClient.newHttpClient().send(
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/accounts"))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+    assertEquals(200, response.statusCode());
+
+    // the last dispatch reports after the body has been flushed to the client
+    Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+    DistributionSummary statements = null;
+    while (statements == null && Instant.now().isBefore(deadline)) {
+      statements = meterRegistry.find("http.server.requests.statements")
+          .tags("method", "GET", "uri", "/api/accounts")
+          .summary();
+      Thread.sleep(10);
+    }
+
+    assertEquals(1, statements.count());
+    assertTrue(statements.totalAmount() >= 1, "statements of the streaming task");
+  }
+}
@@ -0,0 +1,101 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.andreaspapadakis.banking.backoffice.shared.config.RandomNumberGeneratorProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RandomOrgClientTests {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicReference<JsonNode> lastRequest = new AtomicReference<>();
+  private volatile int status;
+  private volatile String responseBody;
+  private HttpServer server;
+  private RandomOrgClient client;
+
+  @BeforeEach
+  void startStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/json-rpc/4/invoke", exchange -> {
+      lastRequest.set(objectMapper.readTree(exchange.getRequestBody()));
+      byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(body);
+      }
+    });
+    server.start();
+
+    String apiUrl = "http://" + server.getAddress().getHostString() + ":"
+        + server.getAddress().getPort() + "/json-rpc/4/invoke";
+    client = new RandomOrgClient(new RandomNumberGeneratorProperty("key", apiUrl, 1000, 4096,
+        1024, Duration.ofMillis(500), Duration.ofSeconds(5), Duration.ofMinutes(1)),
+        objectMapper, meterRegistry);
+  }
+
+  @AfterEach
+  void stopStub() {
+    server.stop(0);
+  }
+
+  @Test
+  void fetchAsksForABatchAndReadsItsIntegers() throws Exception {
+    answer(200, "{\"jsonrpc\":\"2.0\",\"result\":{\"random\":{\"data\":[7,0,1000000000]}},"
+        + "\"id\":1}");
+
+    assertArrayEquals(new int[] {7, 0, 1_000_000_000}, client.fetch(3));
+
+    JsonNode params = lastRequest.get().path("params");
+    assertEquals("generateIntegers", lastRequest.get().path("method").asText());
+    assertEquals("key", params.path("apiKey").asText());
+    assertEquals(3, params.path("n").asInt());
+    assertEquals(RandomOrgClient.MAX_VALUE, params.path("max").asInt());
+    assertEquals(1, meterRegistry.get("random.org.requests").tag("outcome", "success").timer()
+        .count());
+  }
+
+  @Test
+  void aJsonRpcErrorFailsTheFetch() {
+    answer(200, "{\"jsonrpc\":\"2.0\",\"error\":{\"code\":402,"
+        + "\"message\":\"daily quota exceeded\"},\"id\":1}");
+
+    IOException failure = assertThrows(IOException.class, () -> client.fetch(3));
+
+    assertTrue(failure.getMessage().contains("daily quota exceeded"));
+    assertEquals(1, meterRegistry.get("random.org.requests").tag("outcome", "error").timer()
+        .count());
+  }
+
+  @Test
+  void anHttpErrorFailsTheFetch() {
+    answer(503, "<html>Service Unavailable</html>");
+
+    IOException failure = assertThrows(IOException.class, () -> client.fetch(3));
+
+    assertTrue(failure.getMessage().contains("503"));
+  }
+
+  private void answer(int status, String responseBody) {
+    this.status = status;
+    this.responseBody = responseBody;
+  }
+}
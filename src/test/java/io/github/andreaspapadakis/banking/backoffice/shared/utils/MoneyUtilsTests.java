@@ -0,0 +1,127 @@
+package io.github.andreaspapadakis.banking.backoffice.shared.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.ErrorCode;
+import io.github.andreaspapadakis.banking.backoffice.shared.exception.InvalidAmountException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class MoneyUtilsTests {
+
+  private static final Pattern CASE_BLOCK = Pattern.compile("CASE(.*?)END", Pattern.DOTALL);
+  private static final Pattern WHEN_CLAUSE =
+      Pattern.compile("WHEN CURRENCY IN \\(([^)]*)\\) THEN (\\d+)");
+  private static final Pattern CODE = Pattern.compile("'(\\w{3})'");
+
+  @Test
+  void toMinorUnitsRejectsDigitsTheCurrencyCannotHold() {
+    assertEquals(150, MoneyUtils.toMinorUnits(new BigDecimal("1.500"), "EUR"));
+    assertEquals(1_005, MoneyUtils.toMinorUnits(new BigDecimal("1.005"), "KWD"));
+
+    assertTooPrecise(() -> MoneyUtils.toMinorUnits(new BigDecimal("1.005"), "EUR"));
+    assertTooPrecise(() -> MoneyUtils.toMinorUnits(new BigDecimal("0.5"), "JPY"));
+    InvalidAmountException outOfRange = assertThrows(InvalidAmountException.class,
+        () -> MoneyUtils.toMinorUnits(new BigDecimal("92233720368547758.08"), "EUR"));
+    assertEquals(ErrorCode.AMOUNT_OUT_OF_RANGE, outOfRange.getErrorCode());
+  }
+
+  @Test
+  void rescaleExactRejectsAmountsTheTargetWouldRound() {
+    assertEquals(10, MoneyUtils.rescaleExact(1_000, "EUR", "JPY"));
+    assertEquals(7_000, MoneyUtils.rescaleExact(7, "JPY", "KWD"));
+    assertEquals(-1_230, MoneyUtils.rescaleExact(-1_230, "EUR", "USD"));
+
+    assertTooPrecise(() -> MoneyUtils.rescaleExact(1_050, "EUR", "JPY"));
+    assertTooPrecise(() -> MoneyUtils.rescaleExact(1_001, "KWD", "EUR"));
+  }
+
+  @Test
+  void multiplyRoundsHalfToEven() {
+    assertEquals(2, MoneyUtils.multiply(5, 1, 2));
+    assertEquals(4, MoneyUtils.multiply(7, 1, 2));
+    assertEquals(-2, MoneyUtils.multiply(-5, 1, 2));
+    assertEquals(-4, MoneyUtils.multiply(-7, 1, 2));
+    assertEquals(1, MoneyUtils.multiply(2, 1, 3));
+    assertEquals(-1, MoneyUtils.multiply(-2, 1, 3));
+    assertEquals(150, MoneyUtils.multiply(100, 3, 2));
+  }
+
+  @Test
+  void toCharsWritesNegativesZeroAndLongMinValue() {
+    assertEquals("-0.05", toChars(-5, 2));
+    assertEquals("-12.34", toChars(-1_234, 2));
+    assertEquals("0.00", toChars(0, 2));
+    assertEquals("0", toChars(0, 0));
+    assertEquals("0.007", toChars(7, 3));
+    assertEquals("-92233720368547758.08", toChars(Long.MIN_VALUE, 2));
+    assertEquals("-9223372036854775808", toChars(Long.MIN_VALUE, 0));
+    assertEquals("9223372036854775807", toChars(Long.MAX_VALUE, 0));
+  }
+
+  @Test
+  void minorUnitsMigrationScalesEveryCurrencyLikeScale() throws IOException {
+    String script;
+    try (InputStream migration = getClass().getClassLoader()
+        .getResourceAsStream("db/migration/003-balance-minor-units.sql")) {
+      script = new String(migration.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    Matcher caseBlock = CASE_BLOCK.matcher(script);
+    int caseBlocks = 0;
+
+    while (caseBlock.find()) {
+      Map<String, Long> factors = factorsByCurrency(caseBlock.group(1));
+
+      for (Currency currency : Currency.getAvailableCurrencies()) {
+        String code = currency.getCurrencyCode();
+
+        assertEquals(MoneyUtils.majorToMinorUnits(1, code), factors.getOrDefault(code, 100L),
+            code);
+      }
+      caseBlocks++;
+    }
+
+    assertEquals(2, caseBlocks);
+  }
+
+  private static Map<String, Long> factorsByCurrency(String caseBlock) {
+    Map<String, Long> factors = new HashMap<>();
+    Matcher whenClause = WHEN_CLAUSE.matcher(caseBlock);
+
+    while (whenClause.find()) {
+      Matcher code = CODE.matcher(whenClause.group(1));
+
+      while (code.find()) {
+        assertFalse(factors.containsKey(code.group(1)), code.group(1));
+        factors.put(code.group(1), Long.parseLong(whenClause.group(2)));
+      }
+    }
+
+    return factors;
+  }
+
+  private static String toChars(long minorUnits, int scale) {
+    char[] buffer = new char[MoneyUtils.MAX_DECIMAL_LENGTH];
+    int offset = MoneyUtils.toChars(minorUnits, scale, buffer);
+
+    return new String(buffer, offset, buffer.length - offset);
+  }
+
+  private static void assertTooPrecise(Runnable conversion) {
+    InvalidAmountException tooPrecise =
+        assertThrows(InvalidAmountException.class, conversion::run);
+
+    assertEquals(ErrorCode.AMOUNT_TOO_PRECISE, tooPrecise.getErrorCode());
+  }
+}
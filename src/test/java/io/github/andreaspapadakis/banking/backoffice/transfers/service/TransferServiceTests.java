@@ -0,0 +1,100 @@
+package io.github.andreaspapadakis.banking.backoffice.transfers.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.andreaspapadakis.banking.backoffice.accounts.model.Account;
+import io.github.andreaspapadakis.banking.backoffice.accounts.repository.AccountRepository;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferBatchItemResult;
+import io.github.andreaspapadakis.banking.backoffice.transfers.dto.TransferRequest;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:transfer-tests;DB_CLOSE_DELAY=-1;MODE=MySQL"
+        + ";LOCK_TIMEOUT=10000",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TransferServiceTests {
+
+  private static final int ACCOUNTS = 4;
+  private static final long OPENING_BALANCE = 100_000;
+
+  @Autowired
+  private TransferService transferService;
+  @Autowired
+  private AccountRepository accountRepository;
+
+  private final List<UUID> accounts = new ArrayList<>();
+
+  @BeforeEach
+  void openAccounts() {
+    for (int account = 0; account < ACCOUNTS; account++) {
+      UUID id = UUID.randomUUID();
+      accountRepository.save(new Account(id, OPENING_BALANCE, "EUR", null));
+      accounts.add(id);
+    }
+  }
+
+  @Test
+  void concurrentTransfersConserveMoney() throws Exception {
+    ExecutorService clients = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<?>> done = new ArrayList<>();
+      for (int client = 0; client < 8; client++) {
+        done.add(clients.submit(() -> {
+          for (int transfer = 0; transfer < 50; transfer++) {
+            transferService.transfer(randomTransfer());
+          }
+        }));
+        done.add(clients.submit(() -> transferService.transferAll(
+            Stream.generate(this::randomTransfer).limit(50).toList())));
+      }
+
+      for (Future<?> client : done) {
+        client.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      clients.shutdownNow();
+    }
+
+    long total = accounts.stream()
+        .mapToLong(id -> accountRepository.findById(id).orElseThrow().getBalance())
+        .sum();
+    assertEquals(ACCOUNTS * OPENING_BALANCE, total);
+  }
+
+  @Test
+  void failedItemsAreReportedInTheirSlot() {
+    List<TransferBatchItemResult> results = transferService.transferAll(List.of(
+        new TransferRequest(accounts.get(0), accounts.get(1), BigDecimal.ONE, false),
+        new TransferRequest(accounts.get(0), UUID.randomUUID(), BigDecimal.ONE, false),
+        new TransferRequest(accounts.get(1), accounts.get(1), BigDecimal.ONE, false)));
+
+    assertNotNull(results.get(0).transfer());
+    assertTrue(results.subList(1, 3).stream().allMatch(result -> result.error() != null));
+  }
+
+  private TransferRequest randomTransfer() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int from = random.nextInt(ACCOUNTS);
+    int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+
+    return new TransferRequest(accounts.get(from), accounts.get(to),
+        BigDecimal.valueOf(random.nextInt(1, 1000), 2), false);
+  }
+}